@@ -15,6 +15,7 @@ import jakarta.persistence.PessimisticLockScope;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.jdbc.Work;
 import org.hibernate.query.Query;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.stat.SessionStatistics;
 
 import jakarta.persistence.EntityGraph;
@@ -1453,6 +1454,19 @@ public interface Session extends SharedSessionContract, EntityManager {
 	@Override
 	<T> List<EntityGraph<? super T>> getEntityGraphs(Class<T> entityClass);
 
+	/**
+	 * Create a new {@link QueryBatch}, allowing several independent selection
+	 * queries to be executed together, in a single round trip to the database
+	 * if the {@linkplain org.hibernate.dialect.Dialect#supportsMultiStatementSelects()
+	 * dialect supports it}.
+	 *
+	 * @return a new, empty {@code QueryBatch}
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	QueryBatch createQueryBatch();
+
 	// The following overrides should not be necessary,
 	// and are only needed to work around a bug in IntelliJ
 
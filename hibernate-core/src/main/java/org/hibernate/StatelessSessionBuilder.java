@@ -38,4 +38,19 @@ public interface StatelessSessionBuilder {
 	 * @return {@code this}, for method chaining
 	 */
 	StatelessSessionBuilder tenantIdentifier(String tenantIdentifier);
+
+	/**
+	 * Specify that the session will only be used to read data. If the
+	 * configured {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * is a {@link org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider},
+	 * the queries executed by the session outside a transaction may be routed
+	 * to a read replica.
+	 *
+	 * @param readOnly {@code true} if the session only reads data
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 6.3
+	 */
+	StatelessSessionBuilder readOnly(boolean readOnly);
 }
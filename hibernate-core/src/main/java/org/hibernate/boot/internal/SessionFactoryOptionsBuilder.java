@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
@@ -48,6 +49,8 @@ import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.internal.util.NullnessHelper;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
@@ -71,12 +74,19 @@ import org.hibernate.type.format.jackson.JacksonIntegration;
 import org.hibernate.type.format.jakartajson.JakartaJsonIntegration;
 import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_FETCH_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_FETCH_MIN_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASSUME_IMMUTABLE_JAVA_TYPES;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
+import static org.hibernate.cfg.AvailableSettings.AUTO_FLUSH_SKIP_UNREACHABLE_SPACES;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ARRAY_PARAMETER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
@@ -88,6 +98,7 @@ import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATE
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_CATALOG;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
+import static org.hibernate.cfg.AvailableSettings.DEFER_TRANSACTION_BEGIN;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
@@ -103,16 +114,21 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.NATURAL_ID_CACHE_NEGATIVE_TTL;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STREAM_EVICT_READ_ONLY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STREAM_FETCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.READ_REPLICA_MAX_LAG;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
@@ -133,6 +149,7 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.extractProp
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 
 /**
@@ -262,6 +279,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean inClauseParameterPaddingEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final boolean autoFlushSkipUnreachableSpacesEnabled;
+	private final Set<String> assumedImmutableJavaTypes;
+	private final boolean batchFetchArrayParameterEnabled;
+	private final int adaptiveBatchFetchMaxSize;
+	private final int adaptiveBatchFetchMinSize;
+	private final int queryStreamFetchSize;
+	private final boolean queryStreamEvictReadOnly;
+	private final int naturalIdCacheNegativeTtl;
+	private final int statementCacheSize;
+	private final long readReplicaMaxLag;
+	private final boolean deferTransactionBegin;
+	private final int adaptiveFetchMaxSize;
+	private final int adaptiveFetchMinSize;
 
 
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -577,6 +607,42 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+
+		this.autoFlushSkipUnreachableSpacesEnabled = getBoolean(
+				AUTO_FLUSH_SKIP_UNREACHABLE_SPACES,
+				configurationSettings,
+				false
+		);
+
+		this.assumedImmutableJavaTypes = CollectionHelper.setOf(
+				StringHelper.splitTrimmingTokens(
+						", ",
+						getString( ASSUME_IMMUTABLE_JAVA_TYPES, configurationSettings, "" ),
+						false
+				)
+		);
+
+		this.batchFetchArrayParameterEnabled = getBoolean( BATCH_FETCH_ARRAY_PARAMETER, configurationSettings, false );
+
+		this.adaptiveBatchFetchMaxSize = getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, configurationSettings, 0 );
+
+		this.adaptiveBatchFetchMinSize = getInt( ADAPTIVE_BATCH_FETCH_MIN_SIZE, configurationSettings, 2 );
+
+		this.queryStreamFetchSize = getInt( QUERY_STREAM_FETCH_SIZE, configurationSettings, 0 );
+
+		this.queryStreamEvictReadOnly = getBoolean( QUERY_STREAM_EVICT_READ_ONLY, configurationSettings );
+
+		this.naturalIdCacheNegativeTtl = getInt( NATURAL_ID_CACHE_NEGATIVE_TTL, configurationSettings, 0 );
+
+		this.statementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
+
+		this.readReplicaMaxLag = getLong( READ_REPLICA_MAX_LAG, configurationSettings, 0 );
+
+		this.deferTransactionBegin = getBoolean( DEFER_TRANSACTION_BEGIN, configurationSettings, false );
+
+		this.adaptiveFetchMaxSize = getInt( ADAPTIVE_FETCH_MAX_SIZE, configurationSettings, 0 );
+
+		this.adaptiveFetchMinSize = getInt( ADAPTIVE_FETCH_MIN_SIZE, configurationSettings, 10 );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1166,6 +1232,71 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean isAutoFlushSkipUnreachableSpacesEnabled() {
+		return this.autoFlushSkipUnreachableSpacesEnabled;
+	}
+
+	@Override
+	public Set<String> getAssumedImmutableJavaTypes() {
+		return this.assumedImmutableJavaTypes;
+	}
+
+	@Override
+	public boolean isBatchFetchArrayParameterEnabled() {
+		return this.batchFetchArrayParameterEnabled;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return this.adaptiveBatchFetchMaxSize;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return this.adaptiveBatchFetchMinSize;
+	}
+
+	@Override
+	public int getQueryStreamFetchSize() {
+		return this.queryStreamFetchSize;
+	}
+
+	@Override
+	public boolean isQueryStreamEvictReadOnlyEnabled() {
+		return this.queryStreamEvictReadOnly;
+	}
+
+	@Override
+	public int getNaturalIdCacheNegativeTtl() {
+		return this.naturalIdCacheNegativeTtl;
+	}
+
+	@Override
+	public int getStatementCacheSize() {
+		return this.statementCacheSize;
+	}
+
+	@Override
+	public long getReadReplicaMaxLag() {
+		return this.readReplicaMaxLag;
+	}
+
+	@Override
+	public boolean isTransactionBeginDeferred() {
+		return this.deferTransactionBegin;
+	}
+
+	@Override
+	public int getAdaptiveFetchMaxSize() {
+		return this.adaptiveFetchMaxSize;
+	}
+
+	@Override
+	public int getAdaptiveFetchMinSize() {
+		return this.adaptiveFetchMinSize;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -7,6 +7,7 @@
 package org.hibernate.boot.spi;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Supplier;
 
@@ -471,4 +472,69 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public FormatMapper getXmlFormatMapper() {
 		return delegate.getXmlFormatMapper();
 	}
+
+	@Override
+	public boolean isAutoFlushSkipUnreachableSpacesEnabled() {
+		return delegate.isAutoFlushSkipUnreachableSpacesEnabled();
+	}
+
+	@Override
+	public Set<String> getAssumedImmutableJavaTypes() {
+		return delegate.getAssumedImmutableJavaTypes();
+	}
+
+	@Override
+	public boolean isBatchFetchArrayParameterEnabled() {
+		return delegate.isBatchFetchArrayParameterEnabled();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return delegate.getAdaptiveBatchFetchMinSize();
+	}
+
+	@Override
+	public int getQueryStreamFetchSize() {
+		return delegate.getQueryStreamFetchSize();
+	}
+
+	@Override
+	public boolean isQueryStreamEvictReadOnlyEnabled() {
+		return delegate.isQueryStreamEvictReadOnlyEnabled();
+	}
+
+	@Override
+	public int getNaturalIdCacheNegativeTtl() {
+		return delegate.getNaturalIdCacheNegativeTtl();
+	}
+
+	@Override
+	public int getStatementCacheSize() {
+		return delegate.getStatementCacheSize();
+	}
+
+	@Override
+	public long getReadReplicaMaxLag() {
+		return delegate.getReadReplicaMaxLag();
+	}
+
+	@Override
+	public boolean isTransactionBeginDeferred() {
+		return delegate.isTransactionBeginDeferred();
+	}
+
+	@Override
+	public int getAdaptiveFetchMaxSize() {
+		return delegate.getAdaptiveFetchMaxSize();
+	}
+
+	@Override
+	public int getAdaptiveFetchMinSize() {
+		return delegate.getAdaptiveFetchMinSize();
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.spi;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Supplier;
 
@@ -332,4 +334,138 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	@Incubating
 	FormatMapper getXmlFormatMapper();
+
+	/**
+	 * Should an automatic flush be skipped when the tables affected by the query are
+	 * not reachable from the entities associated with the session?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_SKIP_UNREACHABLE_SPACES
+	 *
+	 * @since 6.3
+	 */
+	default boolean isAutoFlushSkipUnreachableSpacesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The names of the Java types whose values are treated as immutable when entities
+	 * are loaded.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASSUME_IMMUTABLE_JAVA_TYPES
+	 *
+	 * @since 6.3
+	 */
+	default Set<String> getAssumedImmutableJavaTypes() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Should batch fetching and multi-id loading bind all keys as a single SQL array parameter?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+	 */
+	default boolean isBatchFetchArrayParameterEnabled() {
+		return false;
+	}
+
+	/**
+	 * The upper bound of adaptive batch fetching, or {@code 0} if adaptive batch fetching is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The lower bound of adaptive batch fetching.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MIN_SIZE
+	 */
+	default int getAdaptiveBatchFetchMinSize() {
+		return 2;
+	}
+
+	/**
+	 * The JDBC fetch size applied to streamed queries which do not specify one,
+	 * or {@code 0} if none should be applied.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_FETCH_SIZE
+	 */
+	default int getQueryStreamFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Should read-only entities be evicted from the persistence context once
+	 * emitted by a streamed query?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_EVICT_READ_ONLY
+	 */
+	default boolean isQueryStreamEvictReadOnlyEnabled() {
+		return false;
+	}
+
+	/**
+	 * The time to live, in seconds, of second-level natural-id cache entries
+	 * recording that no entity exists for a natural-id value, or {@code 0} if
+	 * such entries are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_CACHE_NEGATIVE_TTL
+	 *
+	 * @since 6.3
+	 */
+	default int getNaturalIdCacheNegativeTtl() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of prepared statements cached by a session for each
+	 * JDBC connection, or {@code 0} if statements are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * The replication lag, in milliseconds, tolerated when routing read-only queries to a
+	 * read replica, or {@code 0} if the update timestamps are not consulted.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#READ_REPLICA_MAX_LAG
+	 */
+	default long getReadReplicaMaxLag() {
+		return 0;
+	}
+
+	/**
+	 * Should resource-local transactions defer acquiring a connection until the first
+	 * statement is executed?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#DEFER_TRANSACTION_BEGIN
+	 */
+	default boolean isTransactionBeginDeferred() {
+		return false;
+	}
+
+	/**
+	 * The upper bound of adaptive fetch sizing, or {@code 0} if adaptive fetch sizing is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_MAX_SIZE
+	 */
+	default int getAdaptiveFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The lower bound of adaptive fetch sizing.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_MIN_SIZE
+	 */
+	default int getAdaptiveFetchMinSize() {
+		return 10;
+	}
 }
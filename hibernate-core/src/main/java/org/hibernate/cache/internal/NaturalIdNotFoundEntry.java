@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+
+/**
+ * The value cached in the second-level natural-id cache in place of an
+ * identifier, recording that no entity exists for the natural-id value
+ * of the key, until the entry expires.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_CACHE_NEGATIVE_TTL
+ */
+public final class NaturalIdNotFoundEntry implements Serializable {
+	private final long expiryTimestamp;
+
+	public NaturalIdNotFoundEntry(long expiryTimestamp) {
+		this.expiryTimestamp = expiryTimestamp;
+	}
+
+	/**
+	 * The time, in milliseconds since the epoch, after which the entry is
+	 * no longer valid.
+	 */
+	public long getExpiryTimestamp() {
+		return expiryTimestamp;
+	}
+
+	public boolean isExpired(long timestamp) {
+		return timestamp >= expiryTimestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "NaturalIdNotFoundEntry(" + expiryTimestamp + ")";
+	}
+}
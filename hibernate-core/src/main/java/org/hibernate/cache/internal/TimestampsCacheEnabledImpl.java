@@ -6,6 +6,7 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.hibernate.cache.spi.RegionFactory;
@@ -14,6 +15,8 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -111,15 +114,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-
-		return true;
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
 	}
 
 	private boolean isSpaceOutOfDate(
@@ -163,14 +158,19 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent timestampsCacheCheckEvent = eventManager.beginTimestampsCacheCheckEvent();
 
+		boolean upToDate = true;
 		for ( String space : spaces ) {
 			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+				upToDate = false;
+				break;
 			}
 		}
 
-		return true;
+		eventManager.completeTimestampsCacheCheckEvent( timestampsCacheCheckEvent, session, spaces, upToDate );
+		return upToDate;
 	}
 
 	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
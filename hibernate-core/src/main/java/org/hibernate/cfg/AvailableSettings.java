@@ -1024,6 +1024,49 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, batch fetching and multi-id loading of entities and collections
+	 * with a single-column key bind all keys as one SQL array parameter, instead of
+	 * rendering an {@code in} list with one parameter per key. The SQL is then the
+	 * same for every batch size.
+	 * <p>
+	 * Only has an effect on dialects which {@linkplain org.hibernate.dialect.Dialect#supportsStandardArrays()
+	 * support standard arrays}.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.3
+	 */
+	String BATCH_FETCH_ARRAY_PARAMETER = "hibernate.batch_fetch_array_parameter";
+
+	/**
+	 * When set to a positive value, enables adaptive batch fetching of entities.
+	 * Instead of always using the static batch size, given by {@value #DEFAULT_BATCH_FETCH_SIZE}
+	 * or {@link org.hibernate.annotations.BatchSize @BatchSize}, the batch size for an entity
+	 * type is derived from an exponentially decayed average of the number of its proxies
+	 * which were actually initialized per persistence context, bounded by
+	 * {@value #ADAPTIVE_BATCH_FETCH_MIN_SIZE} and this setting.
+	 * <p>
+	 * Only applies to entity types for which batch fetching is enabled. The learned
+	 * sizes are reported by {@link org.hibernate.stat.EntityStatistics#getAdaptiveBatchFetchSize()}.
+	 * <p>
+	 * The default is {@code 0}, which disables adaptive batch fetching.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.batch_fetch.adaptive.max_size";
+
+	/**
+	 * The lower bound of the batch size used by adaptive batch fetching.
+	 * <p>
+	 * The default is {@code 2}.
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.batch_fetch.adaptive.min_size";
+
 	/**
 	 * When enabled, specifies that JDBC scrollable {@code ResultSet}s may be used.
 	 * This property is only necessary when there is no {@code ConnectionProvider},
@@ -1056,6 +1099,51 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * When set to a positive value, enables adaptive fetch sizing of queries and loaders.
+	 * Instead of always using the static fetch size, given by {@value #STATEMENT_FETCH_SIZE},
+	 * the fetch size of a select statement is derived from an exponentially decayed average
+	 * of the number of rows its previous executions returned, bounded by
+	 * {@value #ADAPTIVE_FETCH_MIN_SIZE} and this setting, and by the maximum number of rows
+	 * requested for the execution.
+	 * <p>
+	 * Does not apply to a query with an explicit {@linkplain org.hibernate.query.SelectionQuery#setFetchSize(int)
+	 * fetch size}. The learned sizes are reported by {@link org.hibernate.stat.QueryStatistics#getAdaptiveFetchSize()}.
+	 * <p>
+	 * The default is {@code 0}, which disables adaptive fetch sizing.
+	 *
+	 * @see java.sql.PreparedStatement#setFetchSize(int)
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_FETCH_MAX_SIZE = "hibernate.jdbc.fetch_size.adaptive.max_size";
+
+	/**
+	 * The lower bound of the fetch size used by adaptive fetch sizing.
+	 * <p>
+	 * The default is {@code 10}.
+	 *
+	 * @see #ADAPTIVE_FETCH_MAX_SIZE
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_FETCH_MIN_SIZE = "hibernate.jdbc.fetch_size.adaptive.min_size";
+
+	/**
+	 * Specifies the maximum number of open {@link java.sql.PreparedStatement}s
+	 * cached for reuse by a session, for each JDBC connection it obtains from the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}. The cached
+	 * statements are closed when the connection is released.
+	 * <p>
+	 * This is only useful for JDBC drivers or connection pools which do not cache
+	 * statements themselves, and for sessions executing the same SQL many times
+	 * while holding a connection. By default, or when set to {@code 0}, statements
+	 * are not cached.
+	 *
+	 * @since 6.3
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -1114,6 +1202,22 @@ public interface AvailableSettings {
 	 */
 	String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
 
+	/**
+	 * When enabled, an automatic flush before query execution is skipped without
+	 * dirty-checking the managed entities if none of the tables affected by the query
+	 * are reachable from the entities and collections associated with the session,
+	 * and no pending action affects them.
+	 * <p>
+	 * Note that cascades which would have been triggered by the skipped flush, for
+	 * example, persisting transient entities reachable from managed entities, are
+	 * deferred until the next flush.
+	 * <p>
+	 * By default, the managed entities are always dirty-checked.
+	 *
+	 * @since 6.3
+	 */
+	String AUTO_FLUSH_SKIP_UNREACHABLE_SPACES = "hibernate.flush.auto.skip_unreachable_spaces";
+
 	/**
 	 * Specifies how Hibernate should manage JDBC connections in terms of acquisition
 	 * and release, either:
@@ -1133,6 +1237,44 @@ public interface AvailableSettings {
 	 */
 	String CONNECTION_HANDLING = "hibernate.connection.handling_mode";
 
+	/**
+	 * When the configured {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * is a {@link org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider},
+	 * specifies the replication lag, in milliseconds, to tolerate when routing a read-only
+	 * query to a read replica. A query against tables which were modified more recently,
+	 * according to the {@linkplain org.hibernate.cache.spi.TimestampsCache update timestamps}
+	 * of the query cache, is executed against the primary database instead.
+	 * <p>
+	 * The default is {@code 0}, meaning that the update timestamps are not consulted.
+	 * The guard has no effect unless the query cache is enabled.
+	 * <p>
+	 * The lag is converted to the unit of the timestamps generated by
+	 * {@link org.hibernate.cache.spi.support.SimpleTimestamper}, which is
+	 * {@code 1/}{@value org.hibernate.cache.spi.support.SimpleTimestamper#ONE_MS}
+	 * of a millisecond, and is used by every
+	 * {@link org.hibernate.cache.spi.RegionFactory} extending
+	 * {@link org.hibernate.cache.spi.AbstractRegionFactory}.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 *
+	 * @since 6.3
+	 */
+	String READ_REPLICA_MAX_LAG = "hibernate.connection.read_replica_max_lag";
+
+	/**
+	 * When enabled, a resource-local transaction does not acquire a JDBC connection
+	 * and disable its auto-commit when it begins, but only when the first statement
+	 * is executed. A transaction which is entirely served from the second-level cache
+	 * or the query cache never acquires a connection.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @see org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode
+	 *
+	 * @since 6.3
+	 */
+	String DEFER_TRANSACTION_BEGIN = "hibernate.connection.defer_transaction_begin";
+
 	/**
 	 * Specifies a {@link org.hibernate.context.spi.CurrentSessionContext} for
 	 * scoping the {@linkplain org.hibernate.SessionFactory#getCurrentSession()
@@ -1507,6 +1649,22 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Specifies a time to live, in seconds, for entries of the second-level
+	 * natural-id cache recording that no entity exists for a natural-id value.
+	 * Repeated lookups of such a value are then answered from the cache rather
+	 * than by querying the database, until the entry expires, or an entity with
+	 * this natural-id is inserted or updated.
+	 * <p>
+	 * By default, or when set to {@code 0}, natural-ids for which no entity exists
+	 * are not cached.
+	 *
+	 * @see org.hibernate.annotations.NaturalIdCache
+	 *
+	 * @since 6.3
+	 */
+	String NATURAL_ID_CACHE_NEGATIVE_TTL = "hibernate.cache.natural_id_negative_ttl";
+
 
 
 
@@ -2289,6 +2447,20 @@ public interface AvailableSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS";
 
+	/**
+	 * Specifies the number of recent SQL statement executions, with their timings and row
+	 * counts, to keep in the {@linkplain org.hibernate.engine.jdbc.spi.SqlExecutionTracer
+	 * execution trace}.
+	 * <p>
+	 * A value of {@code 0}, the default, keeps no executions. Executions are still passed
+	 * to any registered {@link org.hibernate.engine.jdbc.spi.SqlExecutionListener}.
+	 *
+	 * @see org.hibernate.engine.jdbc.spi.JdbcServices#getSqlExecutionTracer()
+	 *
+	 * @since 6.3
+	 */
+	String SQL_EXECUTION_TRACE_SIZE = "hibernate.jdbc.sql_execution_trace_size";
+
 	/**
 	 * Defines a default {@link org.hibernate.SessionEventListener} to be applied to
 	 * newly-opened {@link org.hibernate.Session}s.
@@ -2681,6 +2853,36 @@ public interface AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * Specifies the JDBC fetch size applied to a query executed via
+	 * {@link org.hibernate.query.SelectionQuery#getResultStream()} when no fetch
+	 * size was explicitly given for the query. Many JDBC drivers buffer the whole
+	 * result set unless a fetch size is set, defeating the purpose of streaming.
+	 * <p>
+	 * By default, no fetch size is applied.
+	 *
+	 * @since 6.3
+	 *
+	 * @see #STATEMENT_FETCH_SIZE
+	 */
+	String QUERY_STREAM_FETCH_SIZE = "hibernate.query.stream_fetch_size";
+
+	/**
+	 * When enabled, read-only entities returned by a stream obtained from
+	 * {@link org.hibernate.query.SelectionQuery#getResultStream()} are evicted from
+	 * the persistence context as soon as the consumer of the stream advances to the
+	 * next result, keeping the memory consumed by a long stream bounded.
+	 * <p>
+	 * An evicted entity is detached, and so its lazy associations may no longer be
+	 * initialized. Stream operations which buffer results, for example
+	 * {@link java.util.stream.Stream#sorted()}, therefore see detached entities.
+	 * <p>
+	 * By default, emitted entities remain managed until the session is cleared.
+	 *
+	 * @since 6.3
+	 */
+	String QUERY_STREAM_EVICT_READ_ONLY = "hibernate.query.stream_evict_read_only";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics}
 	 * entries that will be stored by the Hibernate {@link org.hibernate.stat.Statistics}
@@ -2740,6 +2942,22 @@ public interface AvailableSettings {
 	@Incubating
 	String PREFERRED_UUID_JDBC_TYPE = "hibernate.type.preferred_uuid_jdbc_type";
 
+	/**
+	 * A comma-separated list of Java types, for example, {@code java.util.Date,byte[]},
+	 * whose values should be treated as immutable when an entity is loaded, even though
+	 * the Java type itself is mutable.
+	 * <p>
+	 * The hydrated value of a basic attribute of one of these types is then shared
+	 * between the entity instance and the snapshot of its loaded state, instead of being
+	 * deep-copied. Consequently, a change made by mutating such a value in place, instead
+	 * of assigning a new value to the attribute, is not detected by dirty checking.
+	 * <p>
+	 * By default, the values of mutable Java types are always copied.
+	 *
+	 * @since 6.3
+	 */
+	String ASSUME_IMMUTABLE_JAVA_TYPES = "hibernate.type.assume_immutable_java_types";
+
 	/**
 	 * The preferred JDBC type to use for storing duration values. Falls back to
 	 * {@link org.hibernate.type.SqlTypes#INTERVAL_SECOND}.
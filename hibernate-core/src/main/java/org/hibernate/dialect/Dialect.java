@@ -4251,6 +4251,22 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect support executing several {@code select} statements,
+	 * separated by semicolons, as a single {@link java.sql.PreparedStatement},
+	 * whose execution returns one result set for each {@code select}, in a
+	 * single round trip to the database?
+	 *
+	 * @return {@code true} if multi-statement selects are supported
+	 *
+	 * @see org.hibernate.query.QueryBatch
+	 *
+	 * @since 6.3
+	 */
+	public boolean supportsMultiStatementSelects() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
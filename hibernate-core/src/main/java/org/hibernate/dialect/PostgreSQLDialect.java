@@ -1275,6 +1275,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiStatementSelects() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsFetchClause(FetchClauseType type) {
 		switch ( type ) {
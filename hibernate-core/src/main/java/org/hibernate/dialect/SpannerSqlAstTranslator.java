@@ -24,6 +24,7 @@ import org.hibernate.sql.ast.tree.from.DerivedTableReference;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectClause;
@@ -56,6 +57,14 @@ public class SpannerSqlAstTranslator<T extends JdbcOperation> extends AbstractSq
 		// Spanner does not support the FOR UPDATE clause
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		inArrayPredicate.getTestExpression().accept( this );
+		appendSql( " in unnest(" );
+		inArrayPredicate.getArrayParameter().accept( this );
+		appendSql( ')' );
+	}
+
 	@Override
 	public void visitOffsetFetchClause(QueryPart queryPart) {
 		renderLimitOffsetClause( queryPart );
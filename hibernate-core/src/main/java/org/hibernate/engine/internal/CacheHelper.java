@@ -9,6 +9,8 @@ package org.hibernate.engine.internal;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 
 /**
  * @author Steve Ebersole
@@ -26,11 +28,14 @@ public final class CacheHelper {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		Object cachedValue = null;
 		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
 		finally {
 			eventListenerManager.cacheGetEnd( cachedValue != null );
+			eventManager.completeCacheGetEvent( cacheGetEvent, session, cacheAccess.getRegion(), cachedValue != null );
 		}
 		return cachedValue;
 	}
@@ -15,6 +15,7 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.cache.internal.NaturalIdNotFoundEntry;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -280,7 +281,12 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 
 		switch ( source ) {
 			case LOAD: {
-				if ( CacheHelper.fromSharedCache( s, cacheKey, cacheAccess ) != null ) {
+				final Object cached = CacheHelper.fromSharedCache( s, cacheKey, cacheAccess );
+				if ( cached instanceof NaturalIdNotFoundEntry ) {
+					// the entity exists now
+					cacheAccess.evict( cacheKey );
+				}
+				else if ( cached != null ) {
 					// prevent identical re-cachings
 					return;
 				}
@@ -301,6 +307,11 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 				break;
 			}
 			case INSERT: {
+				final boolean negativeCaching = factory.getSessionFactoryOptions().getNaturalIdCacheNegativeTtl() > 0;
+				if ( negativeCaching ) {
+					// the natural-id might be cached as not found
+					cacheAccess.evict( cacheKey );
+				}
 				final boolean put = cacheAccess.insert( s, cacheKey, id );
 				if ( put && statistics.isStatisticsEnabled() ) {
 					statistics.naturalIdCachePut(
@@ -312,6 +323,12 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 				s.asEventSource().getActionQueue().registerProcess(
 						(success, session) -> {
 							if ( success ) {
+								if ( negativeCaching
+										&& cacheAccess.get( session, cacheKey ) instanceof NaturalIdNotFoundEntry ) {
+									// a concurrent lookup did not see the uncommitted entity,
+									// and afterInsert() does not replace an existing entry
+									cacheAccess.evict( cacheKey );
+								}
 								final boolean put1 = cacheAccess.afterInsert( session, cacheKey, id );
 								if ( put1 && statistics.isStatisticsEnabled() ) {
 									statistics.naturalIdCachePut(
@@ -585,6 +602,22 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		final SessionFactoryImplementor factory = session.getFactory();
 		final StatisticsImplementor statistics = factory.getStatistics();
 		final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+		if ( pk instanceof NaturalIdNotFoundEntry ) {
+			if ( ( (NaturalIdNotFoundEntry) pk ).isExpired( System.currentTimeMillis() ) ) {
+				naturalIdCacheAccessStrategy.evict( naturalIdCacheKey );
+				pk = null;
+			}
+			else {
+				if ( statisticsEnabled ) {
+					statistics.naturalIdCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							naturalIdCacheAccessStrategy.getRegion().getName()
+					);
+				}
+				return NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+			}
+		}
+
 		if ( pk != null ) {
 			if ( statisticsEnabled ) {
 				statistics.naturalIdCacheHit(
@@ -624,6 +657,37 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		return pk;
 	}
 
+	@Override
+	public void cacheNonExistenceFromLoad(Object naturalId, EntityMappingType entityDescriptor) {
+		final SharedSessionContractImplementor session = session();
+		final int ttl = session.getFactory().getSessionFactoryOptions().getNaturalIdCacheNegativeTtl();
+		if ( ttl <= 0 ) {
+			return;
+		}
+
+		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
+		final NaturalIdDataAccess cacheAccess = persister.getNaturalIdMapping().getCacheAccess();
+		if ( cacheAccess == null ) {
+			return;
+		}
+
+		final Object cacheKey = cacheAccess.generateCacheKey( naturalId, persister, session );
+		final boolean put = cacheAccess.putFromLoad(
+				session,
+				cacheKey,
+				new NaturalIdNotFoundEntry( System.currentTimeMillis() + ttl * 1000L ),
+				null
+		);
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( put && statistics.isStatisticsEnabled() ) {
+			statistics.naturalIdCachePut(
+					persister.getRootEntityDescriptor().getNavigableRole(),
+					cacheAccess.getRegion().getName()
+			);
+		}
+	}
+
 	@Override
 	public Collection<?> getCachedPkResolutions(EntityMappingType entityDescriptor) {
 		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
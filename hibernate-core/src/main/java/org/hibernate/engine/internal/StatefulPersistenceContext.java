@@ -20,6 +20,7 @@ import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -156,6 +157,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
 
+	// the persisters of the entities and collections associated with this context since it was
+	// created or last cleared; these are not known after deserialization
+	private Set<EntityPersister> involvedEntityPersisters;
+	private Set<CollectionPersister> involvedCollectionPersisters;
+	private boolean involvedPersistersUnknown;
+
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
@@ -257,10 +264,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		nullifiableEntityKeys = null;
 		deletedUnloadedEntityKeys = null;
 		if ( batchFetchQueue != null ) {
+			batchFetchQueue.reportProxyInitializations();
 			batchFetchQueue.clear();
 		}
 		// defaultReadOnly is unaffected by clear()
 		hasNonReadOnlyEntities = false;
+		involvedEntityPersisters = null;
+		involvedCollectionPersisters = null;
+		involvedPersistersUnknown = false;
 		if ( loadContexts != null ) {
 			loadContexts.cleanup();
 		}
@@ -558,6 +569,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, e );
 
 		setHasNonReadOnlyEnties( status );
+		addInvolvedEntityPersister( persister );
 		return e;
 	}
 
@@ -569,6 +581,41 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, entityEntry );
 
 		setHasNonReadOnlyEnties( status );
+		addInvolvedEntityPersister( entityEntry.getPersister() );
+	}
+
+	private void addInvolvedEntityPersister(EntityPersister persister) {
+		if ( !involvedPersistersUnknown ) {
+			if ( involvedEntityPersisters == null ) {
+				involvedEntityPersisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+			}
+			involvedEntityPersisters.add( persister );
+		}
+	}
+
+	private void addInvolvedCollectionPersister(CollectionPersister persister) {
+		if ( !involvedPersistersUnknown && persister != null ) {
+			if ( involvedCollectionPersisters == null ) {
+				involvedCollectionPersisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+			}
+			involvedCollectionPersisters.add( persister );
+		}
+	}
+
+	@Override
+	public Set<EntityPersister> getInvolvedEntityPersisters() {
+		if ( involvedPersistersUnknown ) {
+			return null;
+		}
+		return involvedEntityPersisters == null ? Collections.emptySet() : involvedEntityPersisters;
+	}
+
+	@Override
+	public Set<CollectionPersister> getInvolvedCollectionPersisters() {
+		if ( involvedPersistersUnknown ) {
+			return null;
+		}
+		return involvedCollectionPersisters == null ? Collections.emptySet() : involvedCollectionPersisters;
 	}
 
 	@Override
@@ -897,6 +944,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private void addCollection(PersistentCollection<?> coll, CollectionEntry entry, Object key) {
 		getOrInitializeCollectionEntries().put( coll, entry );
+		addInvolvedCollectionPersister( entry.getLoadedPersister() );
 		final CollectionKey collectionKey = new CollectionKey( entry.getLoadedPersister(), key );
 		final PersistentCollection<?> old = addCollectionByKey( collectionKey, coll );
 		if ( old != null ) {
@@ -929,6 +977,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private void addCollection(PersistentCollection<?> collection, CollectionPersister persister) {
 		final CollectionEntry ce = new CollectionEntry( persister, collection );
 		getOrInitializeCollectionEntries().put( collection, ce );
+		addInvolvedCollectionPersister( persister );
 	}
 
 	@Override
@@ -1670,6 +1719,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			rtn.defaultReadOnly = ois.readBoolean();
 			// todo : we can actually just determine this from the incoming EntityEntry-s
 			rtn.hasNonReadOnlyEntities = ois.readBoolean();
+			rtn.involvedPersistersUnknown = true;
 
 			int count = ois.readInt();
 			final boolean traceEnabled = LOG.isTraceEnabled();
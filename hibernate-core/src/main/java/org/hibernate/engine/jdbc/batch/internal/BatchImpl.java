@@ -21,8 +21,11 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlExecutionTracer;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
@@ -46,6 +49,7 @@ public class BatchImpl implements Batch {
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final SqlExecutionTracer sqlExecutionTracer;
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
@@ -71,6 +75,7 @@ public class BatchImpl implements Batch {
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.sqlExecutionTracer = jdbcServices.getSqlExecutionTracer();
 
 		this.batchSizeToUse = batchSizeToUse;
 
@@ -261,6 +266,8 @@ public class BatchImpl implements Batch {
 
 		//noinspection deprecation
 		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final EventManager eventManager = jdbcCoordinator.getJdbcSessionOwner().getEventManager();
+		final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -271,8 +278,9 @@ public class BatchImpl implements Batch {
 				}
 
 				try {
+					final long executeStartNanos = sqlExecutionTracer.isEnabled() ? System.nanoTime() : 0;
+					final int[] rowCounts;
 					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
 						try {
 							observer.jdbcExecuteBatchStart();
 							rowCounts = statement.executeBatch();
@@ -283,7 +291,10 @@ public class BatchImpl implements Batch {
 						checkRowCounts( rowCounts, statementDetails );
 					}
 					else {
-						statement.executeBatch();
+						rowCounts = statement.executeBatch();
+					}
+					if ( executeStartNanos > 0 ) {
+						traceExecution( sql, executeStartNanos, rowCounts );
 					}
 				}
 				catch (SQLException e) {
@@ -299,10 +310,25 @@ public class BatchImpl implements Batch {
 			} );
 		}
 		finally {
+			eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, getKey() );
 			batchPosition = 0;
 		}
 	}
 
+	private void traceExecution(String sql, long executeStartNanos, int[] rowCounts) {
+		final long executeNanos = System.nanoTime() - executeStartNanos;
+		long rowCount = 0;
+		for ( int count : rowCounts ) {
+			if ( count < 0 ) {
+				// Statement.SUCCESS_NO_INFO
+				rowCount = -1;
+				break;
+			}
+			rowCount += count;
+		}
+		sqlExecutionTracer.record( sql, key.toLoggableString(), 0, executeNanos, 0, rowCount, rowCounts.length );
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
@@ -6,21 +6,28 @@
  */
 package org.hibernate.engine.jdbc.connections.internal;
 
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -37,13 +44,22 @@ import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
 
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_LOGGER;
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MESSAGE_LOGGER;
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
+ * <p>
+ * A request for a connection waits, in arrival order, for at most the
+ * {@linkplain #ACQUISITION_TIMEOUT acquisition timeout} when all connections are in use. A thread
+ * preferably reuses the connection it last returned to the pool. Idle connections are validated,
+ * and connections in use for longer than the {@linkplain #LEAK_DETECTION_THRESHOLD leak detection
+ * threshold} are reported, by a background thread running every {@linkplain #VALIDATION_INTERVAL
+ * validation interval}. The {@linkplain org.hibernate.stat.ConnectionPoolStatistics statistics}
+ * of the pool are exposed by {@link org.hibernate.stat.Statistics#getConnectionPoolStatistics()}.
  *
  * @implNote Not intended for use in production systems!
  *
@@ -61,6 +77,10 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.MILLISECONDS
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -92,6 +112,8 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 );
+		final long leakDetectionThreshold = ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -101,6 +123,8 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
+		pooledConnectionBuilder.leakDetectionThreshold( leakDetectionThreshold );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -340,16 +364,42 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
-	public static class PooledConnections {
+	/**
+	 * The statistics of the pool, or {@code null} if the provider is not configured.
+	 */
+	public ConnectionPoolStatistics getPoolStatistics() {
+		final PoolState state = this.state;
+		return state == null ? null : state.pool;
+	}
+
+	public static class PooledConnections implements ConnectionPoolStatistics {
+
+		// in TimeUnit.SECONDS
+		private static final int BACKGROUND_VALIDATION_TIMEOUT = 5;
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private final ReentrantLock growLock = new ReentrantLock();
+		// one permit for each connection which may be in use, granted in arrival order
+		private final Semaphore permits;
+		// signalled whenever a connection is returned to the pool, or closed
+		private final ReentrantLock availabilityLock = new ReentrantLock();
+		private final Condition availabilityChanged = availabilityLock.newCondition();
+		// weakly referenced, so that threads outliving the pool do not retain its connections
+		private final ThreadLocal<WeakReference<Connection>> lastReturnedConnection = new ThreadLocal<>();
+		private final ConcurrentHashMap<Connection, Long> checkoutTimestamps = new ConcurrentHashMap<>();
+
+		private final LongAdder createdCount = new LongAdder();
+		private final LongAdder acquisitionTimeoutCount = new LongAdder();
+		private final LongAdder leakCount = new LongAdder();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
 
@@ -363,11 +413,17 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
+			leakDetectionThreshold = builder.leakDetectionThreshold;
+			permits = new Semaphore( maxSize, true );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
+			validateAvailableConnections();
+			detectLeaks();
+
 			final int size = size();
 
 			if ( !primed && size >= minSize ) {
@@ -389,10 +445,111 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		/**
+		 * Checks each available connection, closing the broken ones.
+		 */
+		private void validateAvailableConnections() {
+			for ( int i = availableConnections.size(); i > 0; i-- ) {
+				final Connection connection = availableConnections.poll();
+				if ( connection == null ) {
+					break;
+				}
+				if ( isStillValid( connection ) ) {
+					availableConnections.offer( connection );
+					signalAvailabilityChanged();
+				}
+			}
+		}
+
+		private boolean isStillValid(Connection connection) {
+			Exception t = null;
+			try {
+				if ( isAlive( connection ) && connectionValidator.isValid( connection ) ) {
+					return true;
+				}
+			}
+			catch (SQLException ex) {
+				t = ex;
+			}
+			closeConnection( connection, t );
+			CONNECTIONS_MESSAGE_LOGGER.debug( "Connection validation failed. Closing pooled connection", t );
+			return false;
+		}
+
+		private static boolean isAlive(Connection connection) throws SQLException {
+			try {
+				return connection.isValid( BACKGROUND_VALIDATION_TIMEOUT );
+			}
+			catch (SQLFeatureNotSupportedException e) {
+				return !connection.isClosed();
+			}
+		}
+
+		private void detectLeaks() {
+			if ( leakDetectionThreshold > 0 ) {
+				final long now = System.currentTimeMillis();
+				for ( Map.Entry<Connection, Long> entry : checkoutTimestamps.entrySet() ) {
+					final long checkoutTimestamp = entry.getValue();
+					// report each connection once
+					if ( now - checkoutTimestamp > leakDetectionThreshold
+							&& checkoutTimestamps.replace( entry.getKey(), checkoutTimestamp, Long.MAX_VALUE ) ) {
+						leakCount.increment();
+						CONNECTIONS_LOGGER.warnf(
+								"Connection leak detection triggered: a connection has been in use for more than %s ms",
+								now - checkoutTimestamp
+						);
+					}
+				}
+			}
+		}
+
 		public void add(Connection conn) throws SQLException {
-			final Connection connection = releaseConnection( conn );
-			if ( connection != null ) {
-				availableConnections.offer( connection );
+			try {
+				checkoutTimestamps.remove( conn );
+				final Connection connection = releaseConnection( conn );
+				if ( connection != null ) {
+					availableConnections.offer( connection );
+					lastReturnedConnection.set( new WeakReference<>( connection ) );
+				}
+			}
+			finally {
+				permits.release();
+				signalAvailabilityChanged();
+			}
+		}
+
+		private void signalAvailabilityChanged() {
+			availabilityLock.lock();
+			try {
+				availabilityChanged.signalAll();
+			}
+			finally {
+				availabilityLock.unlock();
+			}
+		}
+
+		/**
+		 * Waits until a connection is returned to the pool, or closed, unless
+		 * one became available in the meantime.
+		 */
+		private void awaitAvailabilityChanged() {
+			availabilityLock.lock();
+			try {
+				// the connection is offered before the signal, under the same lock,
+				// so that it is either seen here or wakes us up
+				if ( availableConnections.isEmpty() && allConnections.size() >= maxSize ) {
+					// the permit guarantees that another thread is about to return its
+					// connection, or that the validation thread is about to make it
+					// available again, the timeout only guards against a missed signal
+					availabilityChanged.await( acquisitionTimeout, TimeUnit.MILLISECONDS );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+			finally {
+				availabilityLock.unlock();
 			}
 		}
 
@@ -414,24 +571,88 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
+			acquirePermit();
+			boolean acquired = false;
+			try {
+				final Connection conn = pollAvailableConnection();
+				if ( leakDetectionThreshold > 0 ) {
+					checkoutTimestamps.put( conn, System.currentTimeMillis() );
+				}
+				acquired = true;
+				return conn;
+			}
+			finally {
+				if ( !acquired ) {
+					permits.release();
+				}
+			}
+		}
+
+		private void acquirePermit() {
+			try {
+				if ( !permits.tryAcquire( acquisitionTimeout, TimeUnit.MILLISECONDS ) ) {
+					acquisitionTimeoutCount.increment();
+					throw new HibernateException(
+							"The internal connection pool has reached its maximum size and no connection became available within "
+									+ acquisitionTimeout + " ms" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+		}
+
+		private Connection pollAvailableConnection() {
 			Connection conn;
 			do {
-				conn = availableConnections.poll();
+				conn = pollLastReturnedConnection();
 				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
+					conn = availableConnections.poll();
+				}
+				if ( conn == null ) {
+					if ( !addConnectionIfBelowMaxSize() ) {
+						awaitAvailabilityChanged();
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
-				conn = prepareConnection( conn );
+				else {
+					conn = prepareConnection( conn );
+				}
 			} while ( conn == null );
 			return conn;
 		}
 
+		/**
+		 * Takes the connection last returned by the current thread, if it is still available.
+		 */
+		private Connection pollLastReturnedConnection() {
+			final WeakReference<Connection> reference = lastReturnedConnection.get();
+			if ( reference != null ) {
+				lastReturnedConnection.remove();
+				final Connection conn = reference.get();
+				if ( conn != null && availableConnections.remove( conn ) ) {
+					return conn;
+				}
+			}
+			return null;
+		}
+
+		private boolean addConnectionIfBelowMaxSize() {
+			// use a lock rather than a monitor on allConnections, since opening
+			// the connection is JDBC I/O and would pin a virtual thread
+			growLock.lock();
+			try {
+				if ( allConnections.size() < maxSize ) {
+					addConnections( 1 );
+					return true;
+				}
+				return false;
+			}
+			finally {
+				growLock.unlock();
+			}
+		}
+
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
@@ -460,6 +681,7 @@ public class DriverManagerConnectionProviderImpl
 			}
 			finally {
 				allConnections.remove( conn );
+				signalAvailabilityChanged();
 			}
 		}
 
@@ -471,6 +693,10 @@ public class DriverManagerConnectionProviderImpl
 				}
 			}
 			finally {
+				// the connections last returned by other threads are only weakly
+				// referenced, and are no longer available once the pool is empty
+				lastReturnedConnection.remove();
+				availableConnections.clear();
 				for ( Connection connection : allConnections ) {
 					connection.close();
 				}
@@ -499,6 +725,7 @@ public class DriverManagerConnectionProviderImpl
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
 				Connection connection = connectionCreator.createConnection();
+				createdCount.increment();
 				allConnections.add( connection );
 				availableConnections.add( connection );
 			}
@@ -515,6 +742,41 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		@Override
+		public int getActiveCount() {
+			return Math.max( allConnections.size() - availableConnections.size(), 0 );
+		}
+
+		@Override
+		public int getIdleCount() {
+			return availableConnections.size();
+		}
+
+		@Override
+		public int getPendingCount() {
+			return permits.getQueueLength();
+		}
+
+		@Override
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		@Override
+		public long getCreatedCount() {
+			return createdCount.sum();
+		}
+
+		@Override
+		public long getAcquisitionTimeoutCount() {
+			return acquisitionTimeoutCount.sum();
+		}
+
+		@Override
+		public long getLeakCount() {
+			return leakCount.sum();
+		}
+
 		public static class Builder {
 			private final ConnectionCreator connectionCreator;
 			private ConnectionValidator connectionValidator;
@@ -522,6 +784,8 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout = 30_000;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -543,6 +807,16 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link ConnectionProvider} which, in addition to connections to the primary
+ * database, provides connections to a read replica of the primary database.
+ * <p>
+ * A session acquires its connection from {@link #getReadReplicaConnection()}
+ * when, outside a transaction, the connection is acquired to execute a query which
+ * is {@linkplain org.hibernate.query.SelectionQuery#setReadOnly read-only}, or is
+ * executed by a {@linkplain org.hibernate.Session#setDefaultReadOnly read-only}
+ * session, or by a stateless session opened
+ * {@linkplain org.hibernate.StatelessSessionBuilder#readOnly read-only}, and which
+ * does not obtain a pessimistic lock.
+ * <p>
+ * The session holds the connection to the replica for the queries which follow,
+ * until a transaction begins, or a statement which might write to the database,
+ * or lock rows, is executed. The connection is then released, and the transaction
+ * or the statement uses a connection to the primary database.
+ * <p>
+ * When the connection is acquired to execute a query, and the query reads from
+ * tables which were modified within the tolerated
+ * {@linkplain org.hibernate.cfg.AvailableSettings#READ_REPLICA_MAX_LAG replication lag},
+ * the connection is acquired from the primary database instead.
+ * <p>
+ * Routing connections this way lets a single {@code SessionFactory}, with its
+ * metamodel and second-level cache, serve both the primary and the replicas.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#READ_REPLICA_MAX_LAG
+ *
+ * @since 6.3
+ */
+public interface ReadReplicaConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a connection to a read replica of the database.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 */
+	Connection getReadReplicaConnection() throws SQLException;
+
+	/**
+	 * Release a connection obtained from {@link #getReadReplicaConnection()}.
+	 *
+	 * @param connection The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 */
+	void closeReadReplicaConnection(Connection connection) throws SQLException;
+}
@@ -35,6 +35,7 @@ import org.hibernate.jdbc.WorkExecutor;
 import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -114,6 +115,27 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of prepared statements of the logical connection, if any
+	 */
+	PreparedStatementCache getStatementCache() {
+		return logicalConnection instanceof LogicalConnectionManagedImpl
+				? ( (LogicalConnectionManagedImpl) logicalConnection ).getStatementCache()
+				: null;
+	}
+
+	/**
+	 * Release the connection held by the logical connection, if it was obtained
+	 * from a read replica
+	 *
+	 * @see LogicalConnectionManagedImpl#releaseReadReplicaConnection()
+	 */
+	void releaseReadReplicaConnection() {
+		if ( logicalConnection instanceof LogicalConnectionManagedImpl ) {
+			( (LogicalConnectionManagedImpl) logicalConnection ).releaseReadReplicaConnection();
+		}
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
@@ -285,6 +307,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		releaseReadReplicaConnection();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -418,6 +441,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void afterTransactionBegin() {
+		// a JTA transaction does not begin on the logical connection
+		releaseReadReplicaConnection();
 		owner.afterTransactionBegin();
 	}
 
@@ -19,6 +19,7 @@ import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlExecutionTracer;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
@@ -37,6 +38,7 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	private boolean multiTenancyEnabled;
 
 	private SqlStatementLogger sqlStatementLogger;
+	private SqlExecutionTracer sqlExecutionTracer;
 
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
@@ -56,6 +58,9 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		final long logSlowQuery = ConfigurationHelper.getLong( Environment.LOG_SLOW_QUERY, configValues, 0 );
 
 		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, highlightSQL, logSlowQuery );
+
+		final int traceSize = ConfigurationHelper.getInt( Environment.SQL_EXECUTION_TRACE_SIZE, configValues, 0 );
+		this.sqlExecutionTracer = new SqlExecutionTracer( traceSize );
 	}
 
 	@Override
@@ -81,6 +86,11 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		return sqlStatementLogger;
 	}
 
+	@Override
+	public SqlExecutionTracer getSqlExecutionTracer() {
+		return sqlExecutionTracer;
+	}
+
 	@Override
 	public SqlExceptionHelper getSqlExceptionHelper() {
 		if ( jdbcEnvironment != null ) {
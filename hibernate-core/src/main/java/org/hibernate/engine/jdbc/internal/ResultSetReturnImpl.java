@@ -17,6 +17,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlExecutionTracer;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 
 /**
@@ -30,6 +31,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final SqlExecutionTracer sqlExecutionTracer;
 
 	/**
 	 * Constructs a ResultSetReturnImpl
@@ -41,15 +43,39 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		this.dialect = jdbcServices.getDialect();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.sqlExecutionTracer = jdbcServices.getSqlExecutionTracer();
+	}
+
+	private long executeStartNanos() {
+		return this.sqlStatementLogger.getLogSlowQuery() > 0 || sqlExecutionTracer.isEnabled()
+				? System.nanoTime()
+				: 0;
+	}
+
+	private void traceExecution(Statement statement, long executeStartNanos, int rowCount) {
+		if ( executeStartNanos > 0 && sqlExecutionTracer.isEnabled() ) {
+			traceExecution( statement.toString(), executeStartNanos, rowCount );
+		}
+	}
+
+	private void traceExecution(String sql, long executeStartNanos, int rowCount) {
+		if ( executeStartNanos > 0 && sqlExecutionTracer.isEnabled() ) {
+			sqlExecutionTracer.record(
+					sql,
+					null,
+					0,
+					System.nanoTime() - executeStartNanos,
+					0,
+					rowCount,
+					0
+			);
+		}
 	}
 
 	@Override
 	public ResultSet extract(PreparedStatement statement) {
 		// IMPL NOTE : SQL logged by caller
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -59,6 +85,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				traceExecution( statement, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -71,10 +98,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(PreparedStatement statement, String sql) {
 		// IMPL NOTE : SQL logged by caller
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -84,6 +108,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				traceExecution( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -104,10 +129,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(CallableStatement callableStatement) {
 		// IMPL NOTE : SQL logged by caller
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -117,6 +139,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
+				traceExecution( callableStatement, executeStartNanos, -1 );
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -129,10 +152,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -142,6 +162,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				traceExecution( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -154,10 +175,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(PreparedStatement statement) {
 		// sql logged by StatementPreparerImpl
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -172,6 +190,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				traceExecution( statement, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -184,10 +203,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(PreparedStatement statement, String sql) {
 		// sql logged by StatementPreparerImpl
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -202,6 +218,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				traceExecution( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -214,10 +231,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -232,6 +246,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				traceExecution( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -245,13 +260,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public int executeUpdate(PreparedStatement statement) {
 		assert statement != null;
 
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
@@ -259,6 +273,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			traceExecution( statement, executeStartNanos, rowCount );
 		}
 	}
 
@@ -266,13 +281,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public int executeUpdate(PreparedStatement statement, String sql) {
 		assert statement != null;
 
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
@@ -280,19 +294,19 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			traceExecution( sql, executeStartNanos, rowCount );
 		}
 	}
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate( sql );
+			rowCount = statement.executeUpdate( sql );
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
@@ -300,6 +314,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			traceExecution( sql, executeStartNanos, rowCount );
 		}
 	}
 
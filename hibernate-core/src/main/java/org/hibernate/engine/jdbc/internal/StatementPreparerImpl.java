@@ -17,6 +17,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -61,6 +62,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	
 	@Override
 	public Statement createStatement() {
+		jdbcCoordinator.releaseReadReplicaConnection();
 		try {
 			final Statement statement = connection().createStatement();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( statement, true );
@@ -73,12 +75,14 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	@Override
 	public PreparedStatement prepareStatement(String sql) {
+		jdbcCoordinator.releaseReadReplicaConnection();
 		return buildPreparedStatementPreparationTemplate( sql, false ).prepareStatement();
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql, final boolean isCallable) {
 		jdbcCoordinator.executeBatch();
+		jdbcCoordinator.releaseReadReplicaConnection();
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
@@ -90,6 +94,13 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable
+						? null
+						: new PreparedStatementCache.Key( sql, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+			}
 		};
 	}
 
@@ -105,10 +116,16 @@ class StatementPreparerImpl implements StatementPreparer {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
 		jdbcCoordinator.executeBatch();
+		jdbcCoordinator.releaseReadReplicaConnection();
 		return new StatementPreparationTemplate( sql ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -116,6 +133,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	public PreparedStatement prepareStatement(String sql, final String[] columnNames) {
 		checkAutoGeneratedKeysSupportEnabled();
 		jdbcCoordinator.executeBatch();
+		jdbcCoordinator.releaseReadReplicaConnection();
 		return new StatementPreparationTemplate( sql ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
@@ -138,6 +156,13 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
 				}
+
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return isCallable
+							? null
+							: new PreparedStatementCache.Key( sql, scrollMode.toResultSetType(), Statement.NO_GENERATED_KEYS );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -149,6 +174,13 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return isCallable
+							? null
+							: new PreparedStatementCache.Key( sql, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -170,15 +202,25 @@ class StatementPreparerImpl implements StatementPreparer {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final PreparedStatementCache statementCache = jdbcCoordinator.getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				PreparedStatement preparedStatement = cacheKey == null ? null : statementCache.take( cacheKey );
+				if ( preparedStatement != null ) {
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						if ( cacheKey != null ) {
+							statementCache.markInUse( cacheKey, preparedStatement );
+						}
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -190,6 +232,14 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key identifying the statement in the cache of prepared statements,
+		 * or {@code null} if it may not be cached
+		 */
+		protected PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
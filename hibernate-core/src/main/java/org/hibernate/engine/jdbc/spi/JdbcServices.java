@@ -51,6 +51,17 @@ public interface JdbcServices extends Service {
 	 */
 	SqlStatementLogger getSqlStatementLogger();
 
+	/**
+	 * Obtain service for tracing the execution of SQL statements.
+	 *
+	 * @return The SQL execution tracer.
+	 *
+	 * @since 6.3
+	 */
+	default SqlExecutionTracer getSqlExecutionTracer() {
+		return SqlExecutionTracer.DISABLED;
+	}
+
 	/**
 	 * Obtain service for dealing with exceptions.
 	 *
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+/**
+ * Describes the execution of a SQL statement, as recorded by the {@link SqlExecutionTracer}.
+ * <p>
+ * Durations are measured in nanoseconds. A phase which was not measured, for example the
+ * binding of the parameters of a statement executed by the mutation executor, or the
+ * fetching of the rows of a statement which returns no results, has a duration of zero.
+ *
+ * @see SqlExecutionTracer
+ * @see SqlExecutionListener
+ *
+ * @since 6.3
+ */
+public final class SqlExecutionEvent {
+	private final String sql;
+	private final String source;
+	private final long timestamp;
+	private final long bindNanos;
+	private final long executeNanos;
+	private final long fetchNanos;
+	private final long rowCount;
+	private final int batchSize;
+
+	public SqlExecutionEvent(
+			String sql,
+			String source,
+			long timestamp,
+			long bindNanos,
+			long executeNanos,
+			long fetchNanos,
+			long rowCount,
+			int batchSize) {
+		this.sql = sql;
+		this.source = source;
+		this.timestamp = timestamp;
+		this.bindNanos = bindNanos;
+		this.executeNanos = executeNanos;
+		this.fetchNanos = fetchNanos;
+		this.rowCount = rowCount;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * The executed SQL.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * The origin of the statement, that is, the HQL query or the role of the
+	 * mutated entity or collection, or {@code null} if unknown.
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * The time at which the execution was recorded, in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * The time spent binding the parameters of the statement.
+	 */
+	public long getBindNanos() {
+		return bindNanos;
+	}
+
+	/**
+	 * The time spent executing the statement.
+	 */
+	public long getExecuteNanos() {
+		return executeNanos;
+	}
+
+	/**
+	 * The time spent reading the results of the statement, from the end of
+	 * the execution until the results were released.
+	 */
+	public long getFetchNanos() {
+		return fetchNanos;
+	}
+
+	/**
+	 * The number of rows read from the results, or affected by a mutation,
+	 * or {@code -1} if unknown.
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The number of statements executed as a batch, or {@code 0} if the
+	 * statement was not batched.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	@Override
+	public String toString() {
+		return "sql='" + sql + "'"
+				+ ( source == null ? "" : " source='" + source + "'" )
+				+ " bindNanos=" + bindNanos
+				+ " executeNanos=" + executeNanos
+				+ " fetchNanos=" + fetchNanos
+				+ " rowCount=" + rowCount
+				+ " batchSize=" + batchSize;
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+/**
+ * A sink for the {@linkplain SqlExecutionEvent executions of SQL statements}
+ * recorded by the {@link SqlExecutionTracer}.
+ * <p>
+ * A listener is called synchronously, by the thread which executed the
+ * statement, and so it must be cheap and thread-safe.
+ *
+ * @see SqlExecutionTracer#addListener(SqlExecutionListener)
+ *
+ * @since 6.3
+ */
+@FunctionalInterface
+public interface SqlExecutionListener {
+	/**
+	 * Called after the execution of a SQL statement, or after its results were released.
+	 */
+	void sqlExecuted(SqlExecutionEvent event);
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.internal.CoreLogging;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Records the {@linkplain SqlExecutionEvent executions of SQL statements}, with their
+ * timings and row counts, and passes them to the registered {@linkplain SqlExecutionListener
+ * listeners}.
+ * <p>
+ * The most recent executions are kept in a lock-free ring buffer, whose size is given by
+ * {@value org.hibernate.cfg.AvailableSettings#SQL_EXECUTION_TRACE_SIZE}. In addition, when
+ * the category {@code org.hibernate.SQL_EXECUTION} is enabled at {@code DEBUG} level, each
+ * execution is logged.
+ * <p>
+ * When there is no buffer, listener, or logger to record to, tracing is {@linkplain #isEnabled()
+ * disabled}, and statements are executed without being timed.
+ *
+ * @see JdbcServices#getSqlExecutionTracer()
+ *
+ * @since 6.3
+ */
+public class SqlExecutionTracer {
+	private static final Logger LOG = CoreLogging.logger( "org.hibernate.SQL_EXECUTION" );
+
+	/**
+	 * A tracer which never records executions, and ignores the listeners added to it,
+	 * for {@link JdbcServices} which do not trace executions.
+	 */
+	public static final SqlExecutionTracer DISABLED = new SqlExecutionTracer( 0 ) {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void addListener(SqlExecutionListener listener) {
+		}
+
+		@Override
+		public void record(
+				String sql,
+				String source,
+				long bindNanos,
+				long executeNanos,
+				long fetchNanos,
+				long rowCount,
+				int batchSize) {
+		}
+	};
+
+	private final AtomicReferenceArray<SqlExecutionEvent> buffer;
+	private final int mask;
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final List<SqlExecutionListener> listeners = new CopyOnWriteArrayList<>();
+	private volatile boolean enabled;
+
+	/**
+	 * Constructs a new {@code SqlExecutionTracer} instance.
+	 *
+	 * @param bufferSize The number of executions to keep, rounded up to a power of two,
+	 *                   or {@code 0} to keep none.
+	 */
+	public SqlExecutionTracer(int bufferSize) {
+		if ( bufferSize > 0 ) {
+			final int capacity = bufferSize == 1 ? 1 : Integer.highestOneBit( bufferSize - 1 ) << 1;
+			this.buffer = new AtomicReferenceArray<>( capacity );
+			this.mask = capacity - 1;
+			this.enabled = true;
+		}
+		else {
+			this.buffer = null;
+			this.mask = 0;
+		}
+	}
+
+	/**
+	 * Should executions be timed and recorded?
+	 */
+	public boolean isEnabled() {
+		return enabled || LOG.isDebugEnabled();
+	}
+
+	public void addListener(SqlExecutionListener listener) {
+		listeners.add( listener );
+		enabled = true;
+	}
+
+	public void removeListener(SqlExecutionListener listener) {
+		listeners.remove( listener );
+		enabled = buffer != null || !listeners.isEmpty();
+	}
+
+	/**
+	 * Record the execution of a SQL statement.
+	 *
+	 * @param sql The executed SQL
+	 * @param source The HQL query or role the statement originates from, or {@code null}
+	 * @param bindNanos The time spent binding parameters
+	 * @param executeNanos The time spent executing the statement
+	 * @param fetchNanos The time spent reading the results
+	 * @param rowCount The number of rows read or affected, or {@code -1}
+	 * @param batchSize The number of batched statements, or {@code 0}
+	 */
+	public void record(
+			String sql,
+			String source,
+			long bindNanos,
+			long executeNanos,
+			long fetchNanos,
+			long rowCount,
+			int batchSize) {
+		final SqlExecutionEvent event = new SqlExecutionEvent(
+				sql,
+				source,
+				System.currentTimeMillis(),
+				bindNanos,
+				executeNanos,
+				fetchNanos,
+				rowCount,
+				batchSize
+		);
+		if ( buffer != null ) {
+			buffer.set( (int) ( sequence.getAndIncrement() & mask ), event );
+		}
+		for ( SqlExecutionListener listener : listeners ) {
+			try {
+				listener.sqlExecuted( event );
+			}
+			catch (RuntimeException e) {
+				LOG.warn( "Error notifying SqlExecutionListener", e );
+			}
+		}
+		LOG.debug( event );
+	}
+
+	/**
+	 * The most recent executions kept in the buffer, from the oldest to the most
+	 * recent. Under concurrent execution, the list is only approximately ordered.
+	 */
+	public List<SqlExecutionEvent> getRecentExecutions() {
+		if ( buffer == null ) {
+			return Collections.emptyList();
+		}
+		final long end = sequence.get();
+		final long start = Math.max( 0, end - buffer.length() );
+		final List<SqlExecutionEvent> executions = new ArrayList<>( (int) ( end - start ) );
+		for ( long i = start; i < end; i++ ) {
+			final SqlExecutionEvent event = buffer.get( (int) ( i & mask ) );
+			if ( event != null ) {
+				executions.add( event );
+			}
+		}
+		return executions;
+	}
+
+	/**
+	 * Discard the executions kept in the buffer.
+	 */
+	public void clear() {
+		if ( buffer != null ) {
+			for ( int i = 0; i < buffer.length(); i++ ) {
+				buffer.set( i, null );
+			}
+		}
+	}
+}
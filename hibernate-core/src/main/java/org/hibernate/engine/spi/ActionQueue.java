@@ -11,10 +11,11 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,8 +48,10 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -1063,6 +1066,9 @@ public class ActionQueue {
 
 			private BatchIdentifier parent;
 
+			// the properties whose (value independent) dependencies were already added to this batch
+			private final BitSet appliedProperties = new BitSet();
+
 			BatchIdentifier(String entityName, String rootEntityName) {
 				this.entityName = entityName;
 				this.rootEntityName = rootEntityName;
@@ -1148,9 +1154,89 @@ public class ActionQueue {
 			}
 		}
 
+		/**
+		 * The dependencies of an entity type which can be derived from its mapping alone, that is,
+		 * without looking at the state of any particular instance.  Computed once per entity name
+		 * and reused for every insert action (and flush) handled by this sorter.
+		 */
+		private static class EntityInsertDependencies {
+			private final String rootEntityName;
+			private final Type[] propertyTypes;
+			// the parent/child entity names contributed by each property when its value is non-null
+			private final String[][] propertyParentEntityNames;
+			private final String[][] propertyChildEntityNames;
+			// whether the runtime class of the property value may contribute a further parent entity name
+			private final boolean[] checkValueClass;
+			// whether the property is a component, whose dependencies depend on the component values
+			private final boolean[] componentProperty;
+			private final Set<String> identifierParentEntityNames = new HashSet<>();
+			private final Set<String> identifierChildEntityNames = new HashSet<>();
+
+			EntityInsertDependencies(AbstractEntityInsertAction action, MappingMetamodelImplementor mappingMetamodel) {
+				final EntityPersister persister = action.getPersister();
+				final SharedSessionContractImplementor session = action.getSession();
+				final String entityName = action.getEntityName();
+				this.rootEntityName = mappingMetamodel.getEntityDescriptor( entityName ).getRootEntityName();
+				this.propertyTypes = persister.getPropertyTypes();
+
+				final int size = propertyTypes.length;
+				this.propertyParentEntityNames = new String[size][];
+				this.propertyChildEntityNames = new String[size][];
+				this.checkValueClass = new boolean[size];
+				this.componentProperty = new boolean[size];
+				final Set<String> parentEntityNames = new HashSet<>();
+				final Set<String> childEntityNames = new HashSet<>();
+				for ( int i = 0; i < size; i++ ) {
+					final Type type = propertyTypes[i];
+					if ( type.isComponentType() ) {
+						componentProperty[i] = true;
+					}
+					else {
+						addParentChildEntityNames(
+								entityName,
+								type,
+								null,
+								parentEntityNames,
+								childEntityNames,
+								session,
+								mappingMetamodel
+						);
+						propertyParentEntityNames[i] = parentEntityNames.toArray( ArrayHelper.EMPTY_STRING_ARRAY );
+						propertyChildEntityNames[i] = childEntityNames.toArray( ArrayHelper.EMPTY_STRING_ARRAY );
+						parentEntityNames.clear();
+						childEntityNames.clear();
+						if ( type.isEntityType() ) {
+							final EntityType entityType = (EntityType) type;
+							checkValueClass[i] = !entityType.isOneToOne()
+									|| entityType.getForeignKeyDirection() != ForeignKeyDirection.TO_PARENT;
+						}
+					}
+				}
+
+				final Type identifierType = persister.getIdentifierType();
+				if ( identifierType.isComponentType() ) {
+					final CompositeType compositeType = (CompositeType) identifierType;
+					for ( Type type : compositeType.getSubtypes() ) {
+						addParentChildEntityNames(
+								entityName,
+								type,
+								null,
+								identifierParentEntityNames,
+								identifierChildEntityNames,
+								session,
+								mappingMetamodel
+						);
+					}
+				}
+			}
+		}
+
 		// the map of batch numbers to EntityInsertAction lists
 		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
 
+		// the mapping-derived dependencies of each entity name seen by this sorter
+		private final Map<String, EntityInsertDependencies> dependenciesByEntityName = new HashMap<>();
+
 		public InsertActionSorter() {
 		}
 
@@ -1163,27 +1249,20 @@ public class ActionQueue {
 
 			// the mapping of entity names to their latest batch numbers.
 			final List<BatchIdentifier> latestBatches = new ArrayList<>();
+			final Map<String, BatchIdentifier> batchesByEntityName = new HashMap<>();
 
 			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getRuntimeMetamodels()
-								.getMappingMetamodel()
-								.getEntityDescriptor( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
+				final String entityName = action.getEntityName();
+				final EntityInsertDependencies dependencies = getDependencies( action );
+				BatchIdentifier batchIdentifier = batchesByEntityName.get( entityName );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier( entityName, dependencies.rootEntityName );
+					batchesByEntityName.put( entityName, batchIdentifier );
 					latestBatches.add( batchIdentifier );
+					batchIdentifier.getParentEntityNames().addAll( dependencies.identifierParentEntityNames );
+					batchIdentifier.getChildEntityNames().addAll( dependencies.identifierChildEntityNames );
 				}
-				addParentChildEntityNames( action, batchIdentifier );
+				addParentChildEntityNames( action, batchIdentifier, dependencies );
 				addToBatch( batchIdentifier, action );
 			}
 
@@ -1273,44 +1352,74 @@ public class ActionQueue {
 			}
 		}
 
+		private EntityInsertDependencies getDependencies(AbstractEntityInsertAction action) {
+			EntityInsertDependencies dependencies = dependenciesByEntityName.get( action.getEntityName() );
+			if ( dependencies == null ) {
+				dependencies = new EntityInsertDependencies(
+						action,
+						action.getSession().getFactory().getRuntimeMetamodels().getMappingMetamodel()
+				);
+				dependenciesByEntityName.put( action.getEntityName(), dependencies );
+			}
+			return dependencies;
+		}
+
 		/**
 		 * Add parent and child entity names so that we know how to rearrange dependencies
 		 *
 		 * @param action The action being sorted
 		 * @param batchIdentifier The batch identifier of the entity affected by the action
+		 * @param dependencies The mapping-derived dependencies of the entity affected by the action
 		 */
-		private void addParentChildEntityNames(AbstractEntityInsertAction action, BatchIdentifier batchIdentifier) {
+		private void addParentChildEntityNames(
+				AbstractEntityInsertAction action,
+				BatchIdentifier batchIdentifier,
+				EntityInsertDependencies dependencies) {
 			final Object[] propertyValues = action.getState();
-			final Type[] propertyTypes = action.getPersister().getPropertyTypes();
-			final Type identifierType = action.getPersister().getIdentifierType();
+			final Type[] propertyTypes = dependencies.propertyTypes;
 
 			for ( int i = 0; i < propertyValues.length; i++ ) {
-				Object value = propertyValues[i];
+				final Object value = propertyValues[i];
 				if ( value != null ) {
-					Type type = propertyTypes[i];
-					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, value );
-				}
-			}
-
-			if ( identifierType.isComponentType() ) {
-				CompositeType compositeType = (CompositeType) identifierType;
-				Type[] compositeIdentifierTypes = compositeType.getSubtypes();
-
-				for ( Type type : compositeIdentifierTypes ) {
-					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, null );
+					if ( dependencies.componentProperty[i] ) {
+						addParentChildEntityNames(
+								batchIdentifier.getEntityName(),
+								propertyTypes[i],
+								value,
+								batchIdentifier.getParentEntityNames(),
+								batchIdentifier.getChildEntityNames(),
+								action.getSession(),
+								action.getSession().getFactory().getRuntimeMetamodels().getMappingMetamodel()
+						);
+					}
+					else {
+						if ( !batchIdentifier.appliedProperties.get( i ) ) {
+							batchIdentifier.appliedProperties.set( i );
+							Collections.addAll(
+									batchIdentifier.getParentEntityNames(),
+									dependencies.propertyParentEntityNames[i]
+							);
+							Collections.addAll(
+									batchIdentifier.getChildEntityNames(),
+									dependencies.propertyChildEntityNames[i]
+							);
+						}
+						if ( dependencies.checkValueClass[i] ) {
+							addValueClassName( batchIdentifier.getParentEntityNames(), (EntityType) propertyTypes[i], value );
+						}
+					}
 				}
 			}
 		}
 
-		private void addParentChildEntityNameByPropertyAndValue(
-				AbstractEntityInsertAction action,
-				BatchIdentifier batchIdentifier,
+		private static void addParentChildEntityNames(
+				String batchEntityName,
 				Type type,
-				Object value) {
-			final MappingMetamodelImplementor mappingMetamodel = action.getSession()
-					.getFactory()
-					.getRuntimeMetamodels()
-					.getMappingMetamodel();
+				Object value,
+				Set<String> parentEntityNames,
+				Set<String> childEntityNames,
+				SharedSessionContractImplementor session,
+				MappingMetamodelImplementor mappingMetamodel) {
 			if ( type.isEntityType() ) {
 				final EntityType entityType = (EntityType) type;
 				final String entityName = entityType.getName();
@@ -1318,61 +1427,66 @@ public class ActionQueue {
 
 				if ( entityType.isOneToOne() && entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 					if ( !entityType.isReferenceToPrimaryKey() ) {
-						batchIdentifier.getChildEntityNames().add( entityName );
+						childEntityNames.add( entityName );
 					}
 					if ( !rootEntityName.equals( entityName ) ) {
-						batchIdentifier.getChildEntityNames().add( rootEntityName );
+						childEntityNames.add( rootEntityName );
 					}
 				}
 				else {
-					if ( !batchIdentifier.getEntityName().equals( entityName ) ) {
-						batchIdentifier.getParentEntityNames().add( entityName );
+					if ( !batchEntityName.equals( entityName ) ) {
+						parentEntityNames.add( entityName );
 					}
 					if ( value != null ) {
-						String valueClass = value.getClass().getName();
-						if ( !valueClass.equals( entityName ) ) {
-							batchIdentifier.getParentEntityNames().add( valueClass );
-						}
+						addValueClassName( parentEntityNames, entityType, value );
 					}
 					if ( !rootEntityName.equals( entityName ) ) {
-						batchIdentifier.getParentEntityNames().add( rootEntityName );
+						parentEntityNames.add( rootEntityName );
 					}
 				}
 			}
 			else if ( type.isCollectionType() ) {
 				CollectionType collectionType = (CollectionType) type;
-				final SessionFactoryImplementor sessionFactory = action.getSession().getSessionFactory();
+				final SessionFactoryImplementor sessionFactory = session.getSessionFactory();
 				if ( collectionType.getElementType( sessionFactory ).isEntityType()
 						&& !mappingMetamodel.getCollectionDescriptor( collectionType.getRole() ).isManyToMany() ) {
 					final String entityName = collectionType.getAssociatedEntityName( sessionFactory );
 					final String rootEntityName = mappingMetamodel.getEntityDescriptor( entityName ).getRootEntityName();
-					batchIdentifier.getChildEntityNames().add( entityName );
+					childEntityNames.add( entityName );
 					if ( !rootEntityName.equals( entityName ) ) {
-						batchIdentifier.getChildEntityNames().add( rootEntityName );
+						childEntityNames.add( rootEntityName );
 					}
 				}
 			}
 			else if ( type.isComponentType() && value != null ) {
 				// Support recursive checks of composite type properties for associations and collections.
 				CompositeType compositeType = (CompositeType) type;
-				final SharedSessionContractImplementor session = action.getSession();
 				Object[] componentValues = compositeType.getPropertyValues( value, session );
 				for ( int j = 0; j < componentValues.length; ++j ) {
 					Type componentValueType = compositeType.getSubtypes()[j];
 					Object componentValue = componentValues[j];
-					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, componentValueType, componentValue );
+					addParentChildEntityNames(
+							batchEntityName,
+							componentValueType,
+							componentValue,
+							parentEntityNames,
+							childEntityNames,
+							session,
+							mappingMetamodel
+					);
 				}
 			}
 		}
 
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
-
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
+		private static void addValueClassName(Set<String> parentEntityNames, EntityType entityType, Object value) {
+			final String valueClass = value.getClass().getName();
+			if ( !valueClass.equals( entityType.getName() ) ) {
+				parentEntityNames.add( valueClass );
 			}
-			actions.add( action );
+		}
+
+		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
+			actionBatches.computeIfAbsent( batchIdentifier, k -> new ArrayList<>() ).add( action );
 		}
 
 	}
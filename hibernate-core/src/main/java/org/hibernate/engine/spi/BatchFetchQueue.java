@@ -18,6 +18,7 @@ import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -59,6 +60,13 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of proxies initialized per entity name since the persistence context was
+	 * last cleared, used for adaptive batch fetching.  Unlike the queued keys, this is not
+	 * reset by {@link #clear()}, since that also happens after every flush.
+	 */
+	private Map<String, int[]> initializedProxyCounts;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -80,6 +88,40 @@ public class BatchFetchQueue {
 	}
 
 
+	// adaptive batch fetch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Record that a proxy for the given entity has been initialized, if adaptive
+	 * batch fetching is enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	public void recordProxyInitialization(String entityName) {
+		if ( context.getSession().getFactory().getSessionFactoryOptions().getAdaptiveBatchFetchMaxSize() > 0 ) {
+			if ( initializedProxyCounts == null ) {
+				initializedProxyCounts = CollectionHelper.mapOfSize( 8 );
+			}
+			initializedProxyCounts.computeIfAbsent( entityName, k -> new int[1] )[0]++;
+		}
+	}
+
+	/**
+	 * Report the proxy initializations recorded since the last call to the batch
+	 * loaders of the respective entities, and reset them.
+	 * <p>
+	 * Called when the persistence context is cleared.
+	 */
+	public void reportProxyInitializations() {
+		if ( initializedProxyCounts != null ) {
+			final MappingMetamodelImplementor mappingMetamodel = context.getSession().getFactory().getMappingMetamodel();
+			for ( Entry<String, int[]> entry : initializedProxyCounts.entrySet() ) {
+				mappingMetamodel.getEntityDescriptor( entry.getKey() ).recordInitializedProxies( entry.getValue()[0] );
+			}
+			initializedProxyCounts = null;
+		}
+	}
+
+
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -96,6 +138,13 @@ public class BatchFetchQueue {
 		return subselectsByEntityKey.get( key );
 	}
 
+	/**
+	 * Whether any subselect fetch descriptor is currently queued.
+	 */
+	public boolean hasSubselects() {
+		return subselectsByEntityKey != null && !subselectsByEntityKey.isEmpty();
+	}
+
 	/**
 	 * Adds a subselect fetch descriptor for the given entity key.
 	 *
@@ -125,7 +174,10 @@ public class BatchFetchQueue {
 	 */
 	public void removeSubselect(EntityKey key) {
 		if ( subselectsByEntityKey != null ) {
-			subselectsByEntityKey.remove( key );
+			final SubselectFetch subselectFetch = subselectsByEntityKey.remove( key );
+			if ( subselectFetch != null ) {
+				subselectFetch.removeResultingEntityKey( key );
+			}
 		}
 	}
 
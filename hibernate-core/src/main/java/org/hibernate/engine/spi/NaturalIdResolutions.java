@@ -38,6 +38,17 @@ public interface NaturalIdResolutions {
 
 	void cacheResolutionFromLoad(Object id, Object naturalId, EntityMappingType entityDescriptor);
 
+	/**
+	 * Records in the L2 cache that no entity exists for the given natural-id, when
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#NATURAL_ID_CACHE_NEGATIVE_TTL
+	 * negative caching} is enabled. Until the entry expires, {@link #findCachedIdByNaturalId}
+	 * then returns {@link #INVALID_NATURAL_ID_REFERENCE} for this natural-id.
+	 *
+	 * @since 6.3
+	 */
+	default void cacheNonExistenceFromLoad(Object naturalId, EntityMappingType entityDescriptor) {
+	}
+
 	/**
 	 * Ensures that the necessary local cross-reference exists.  Specifically, this
 	 * only effects the persistence-context cache, not the L2 cache
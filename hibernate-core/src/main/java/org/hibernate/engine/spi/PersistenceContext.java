@@ -9,6 +9,7 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -794,6 +795,29 @@ public interface PersistenceContext {
 	 */
 	Iterator<Object> managedEntitiesIterator();
 
+	/**
+	 * The persisters of all entities which were associated with this persistence context
+	 * since it was created or last {@linkplain #clear() cleared}, or {@code null} if they
+	 * are not known, for example, after deserialization.
+	 * <p>
+	 * Used to determine which tables might be affected by a flush without having to visit
+	 * each managed entity.
+	 */
+	default Set<EntityPersister> getInvolvedEntityPersisters() {
+		return null;
+	}
+
+	/**
+	 * The persisters of all collections which were associated with this persistence context
+	 * since it was created or last {@linkplain #clear() cleared}, or {@code null} if they
+	 * are not known, for example, after deserialization.
+	 *
+	 * @see #getInvolvedEntityPersisters()
+	 */
+	default Set<CollectionPersister> getInvolvedCollectionPersisters() {
+		return null;
+	}
+
 	/**
 	 * Access to the natural-id helper for this persistence context
 	 *
@@ -49,6 +49,7 @@ import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
@@ -505,6 +506,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return queryDelegate().createQuery( deleteQuery );
 	}
 
+	@Override
+	public QueryBatch createQueryBatch() {
+		return delegate.createQueryBatch();
+	}
+
 	@Override @SuppressWarnings("rawtypes")
 	public QueryImplementor getNamedQuery(String name) {
 		return queryDelegate().getNamedQuery( name );
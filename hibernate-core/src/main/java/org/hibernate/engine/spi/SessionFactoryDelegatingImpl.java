@@ -33,6 +33,7 @@ import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.event.spi.EventEngine;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FastSessionServices;
@@ -124,6 +125,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getEventEngine();
 	}
 
+	@Override
+	public EventManager getEventManager() {
+		return delegate.getEventManager();
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		delegate.close();
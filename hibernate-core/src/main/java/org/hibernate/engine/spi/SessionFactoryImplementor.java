@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
@@ -17,7 +18,9 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
+import org.hibernate.event.internal.EmptyEventManager;
 import org.hibernate.event.spi.EventEngine;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FastSessionServices;
@@ -121,6 +124,17 @@ public interface SessionFactoryImplementor
 	 */
 	EventEngine getEventEngine();
 
+	/**
+	 * Get the {@link EventManager} which emits the monitoring events of this
+	 * SessionFactory.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default EventManager getEventManager() {
+		return EmptyEventManager.INSTANCE;
+	}
+
 	/**
 	 * Retrieve fetch profile by name.
 	 *
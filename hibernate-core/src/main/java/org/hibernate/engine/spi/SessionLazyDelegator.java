@@ -38,6 +38,7 @@ import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
@@ -579,6 +580,11 @@ public class SessionLazyDelegator implements Session {
 		return this.lazySession.get().createQuery( updateQuery );
 	}
 
+	@Override
+	public QueryBatch createQueryBatch() {
+		return this.lazySession.get().createQueryBatch();
+	}
+
 	@Override
 	public String getTenantIdentifier() {
 		return this.lazySession.get().getTenantIdentifier();
@@ -14,9 +14,11 @@ import jakarta.persistence.TransactionRequiredException;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Interceptor;
 import org.hibernate.StatelessSession;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.query.Query;
@@ -101,6 +103,17 @@ public interface SharedSessionContractImplementor
 		return getFactory().getTypeConfiguration();
 	}
 
+	/**
+	 * Obtain the {@link EventManager} which emits the monitoring events of this session.
+	 *
+	 * @since 6.3
+	 */
+	@Override
+	@Incubating
+	default EventManager getEventManager() {
+		return getFactory().getEventManager();
+	}
+
 	/**
 	 * Get the {@link SessionEventListenerManager} associated with this session.
 	 */
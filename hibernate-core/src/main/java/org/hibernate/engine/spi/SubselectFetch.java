@@ -8,6 +8,7 @@ package org.hibernate.engine.spi;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +36,11 @@ public class SubselectFetch {
 	private final List<JdbcParameter> loadingJdbcParameters;
 	private final JdbcParameterBindings loadingJdbcParameterBindings;
 	private final Set<EntityKey> resultingEntityKeys;
+	private final boolean restrictedByOwnerKeys;
+	private final boolean appliedToAllCollections;
+	// the keys of the owners whose collections of a role were not fetched yet,
+	// for fetches restricted by owner keys, keyed by the role
+	private Map<String, Set<EntityKey>> unfetchedEntityKeysByRole;
 
 	public SubselectFetch(
 			EntityValuedModelPart entityModelPart,
@@ -43,12 +49,54 @@ public class SubselectFetch {
 			List<JdbcParameter> loadingJdbcParameters,
 			JdbcParameterBindings loadingJdbcParameterBindings,
 			Set<EntityKey> resultingEntityKeys) {
+		this(
+				entityModelPart,
+				loadingSqlAst,
+				ownerTableGroup,
+				loadingJdbcParameters,
+				loadingJdbcParameterBindings,
+				resultingEntityKeys,
+				false
+		);
+	}
+
+	public SubselectFetch(
+			EntityValuedModelPart entityModelPart,
+			QuerySpec loadingSqlAst,
+			TableGroup ownerTableGroup,
+			List<JdbcParameter> loadingJdbcParameters,
+			JdbcParameterBindings loadingJdbcParameterBindings,
+			Set<EntityKey> resultingEntityKeys,
+			boolean restrictedByOwnerKeys) {
+		this(
+				entityModelPart,
+				loadingSqlAst,
+				ownerTableGroup,
+				loadingJdbcParameters,
+				loadingJdbcParameterBindings,
+				resultingEntityKeys,
+				restrictedByOwnerKeys,
+				false
+		);
+	}
+
+	public SubselectFetch(
+			EntityValuedModelPart entityModelPart,
+			QuerySpec loadingSqlAst,
+			TableGroup ownerTableGroup,
+			List<JdbcParameter> loadingJdbcParameters,
+			JdbcParameterBindings loadingJdbcParameterBindings,
+			Set<EntityKey> resultingEntityKeys,
+			boolean restrictedByOwnerKeys,
+			boolean appliedToAllCollections) {
 		this.entityModelPart = entityModelPart;
 		this.loadingSqlAst = loadingSqlAst;
 		this.ownerTableGroup = ownerTableGroup;
 		this.loadingJdbcParameters = loadingJdbcParameters;
 		this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
 		this.resultingEntityKeys = resultingEntityKeys;
+		this.restrictedByOwnerKeys = restrictedByOwnerKeys;
+		this.appliedToAllCollections = restrictedByOwnerKeys && appliedToAllCollections;
 	}
 
 	public EntityValuedModelPart getEntityModelPart() {
@@ -92,6 +140,69 @@ public class SubselectFetch {
 		return resultingEntityKeys;
 	}
 
+	/**
+	 * Obtain the keys of the resulting owners which were not yet handed
+	 * out for the given collection role, that is, all resulting owners on
+	 * the first call for the role, and those added since the previous
+	 * call afterward. Used by fetches {@linkplain #isRestrictedByOwnerKeys()
+	 * restricted by owner keys}, so that an owner is considered only once
+	 * for each role, however many owners are scrolled.
+	 *
+	 * @param role The {@linkplain org.hibernate.persister.collection.CollectionPersister#getRole() collection role}
+	 */
+	public Set<EntityKey> takeUnfetchedEntityKeys(String role) {
+		if ( unfetchedEntityKeysByRole == null ) {
+			unfetchedEntityKeysByRole = new HashMap<>();
+		}
+		final Set<EntityKey> unfetchedEntityKeys = unfetchedEntityKeysByRole.put( role, new LinkedHashSet<>() );
+		return unfetchedEntityKeys == null ? new HashSet<>( resultingEntityKeys ) : unfetchedEntityKeys;
+	}
+
+	private void addResultingEntityKey(EntityKey key) {
+		resultingEntityKeys.add( key );
+		if ( unfetchedEntityKeysByRole != null ) {
+			for ( Set<EntityKey> unfetchedEntityKeys : unfetchedEntityKeysByRole.values() ) {
+				unfetchedEntityKeys.add( key );
+			}
+		}
+	}
+
+	/**
+	 * Forget about an owner which was evicted or deleted, so that the keys
+	 * of the owners of a long-running scroll or stream do not accumulate
+	 */
+	public void removeResultingEntityKey(EntityKey key) {
+		resultingEntityKeys.remove( key );
+		if ( unfetchedEntityKeysByRole != null ) {
+			for ( Set<EntityKey> unfetchedEntityKeys : unfetchedEntityKeysByRole.values() ) {
+				unfetchedEntityKeys.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Whether the collections must be loaded by the keys of the
+	 * {@linkplain #getResultingEntityKeys() resulting owners} rather than by
+	 * re-applying the restriction of the {@linkplain #getLoadingSqlAst() loading query}.
+	 * This is the case when the owners were loaded by a paginated or scrolled
+	 * query, since the restriction then matches more owners than were loaded.
+	 */
+	public boolean isRestrictedByOwnerKeys() {
+		return restrictedByOwnerKeys;
+	}
+
+	/**
+	 * Whether this fetch applies to every collection of the resulting owners,
+	 * not only to those mapped for {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT
+	 * subselect fetching}. This is the case when the owners were loaded by a query
+	 * which {@linkplain org.hibernate.jpa.HibernateHints#HINT_SPLIT_COLLECTION_FETCH
+	 * splits its collection fetches} into secondary selects. Such a fetch is always
+	 * {@linkplain #isRestrictedByOwnerKeys() restricted by owner keys}.
+	 */
+	public boolean isAppliedToAllCollections() {
+		return appliedToAllCollections;
+	}
+
 	@Override
 	public String toString() {
 		return "SubselectFetch(" + entityModelPart.getEntityMappingType().getEntityName() + ")";
@@ -103,13 +214,32 @@ public class SubselectFetch {
 			TableGroup tableGroup,
 			List<JdbcParameter> jdbcParameters,
 			JdbcParameterBindings jdbcParameterBindings) {
+		return createRegistrationHandler(
+				batchFetchQueue,
+				sqlAst,
+				tableGroup,
+				jdbcParameters,
+				jdbcParameterBindings,
+				false
+		);
+	}
+
+	public static RegistrationHandler createRegistrationHandler(
+			BatchFetchQueue batchFetchQueue,
+			SelectStatement sqlAst,
+			TableGroup tableGroup,
+			List<JdbcParameter> jdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings,
+			boolean restrictByOwnerKeys) {
 
 		return new StandardRegistrationHandler(
 				batchFetchQueue,
 				sqlAst,
 				tableGroup,
 				jdbcParameters,
-				jdbcParameterBindings
+				jdbcParameterBindings,
+				restrictByOwnerKeys,
+				false
 		);
 	}
 
@@ -118,13 +248,65 @@ public class SubselectFetch {
 			SelectStatement sqlAst,
 			List<JdbcParameter> jdbcParameters,
 			JdbcParameterBindings jdbcParameterBindings) {
+		return createRegistrationHandler( batchFetchQueue, sqlAst, jdbcParameters, jdbcParameterBindings, false );
+	}
+
+	/**
+	 * @param restrictByOwnerKeys whether the results of the query are only a
+	 * part of the rows matching its restriction, as for a paginated or scrolled
+	 * query, so that collections must be fetched by the keys of the loaded owners
+	 *
+	 * @see SubselectFetch#isRestrictedByOwnerKeys()
+	 */
+	public static RegistrationHandler createRegistrationHandler(
+			BatchFetchQueue batchFetchQueue,
+			SelectStatement sqlAst,
+			List<JdbcParameter> jdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings,
+			boolean restrictByOwnerKeys) {
 		final List<TableGroup> roots = sqlAst.getQuerySpec().getFromClause().getRoots();
 		if ( roots.isEmpty() ) {
 			// we allow this now
 			return NO_OP_REG_HANDLER;
 		}
 
-		return createRegistrationHandler( batchFetchQueue, sqlAst, roots.get( 0 ), jdbcParameters, jdbcParameterBindings );
+		return createRegistrationHandler(
+				batchFetchQueue,
+				sqlAst,
+				roots.get( 0 ),
+				jdbcParameters,
+				jdbcParameterBindings,
+				restrictByOwnerKeys
+		);
+	}
+
+	/**
+	 * Creates a handler registering the owners loaded by a query which splits
+	 * its collection fetches into secondary selects, so that each collection
+	 * role of these owners is then loaded by a single select restricted by
+	 * the owner keys.
+	 *
+	 * @see SubselectFetch#isAppliedToAllCollections()
+	 */
+	public static RegistrationHandler createSplitCollectionFetchRegistrationHandler(
+			BatchFetchQueue batchFetchQueue,
+			SelectStatement sqlAst,
+			List<JdbcParameter> jdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings) {
+		final List<TableGroup> roots = sqlAst.getQuerySpec().getFromClause().getRoots();
+		if ( roots.isEmpty() ) {
+			return NO_OP_REG_HANDLER;
+		}
+
+		return new StandardRegistrationHandler(
+				batchFetchQueue,
+				sqlAst,
+				roots.get( 0 ),
+				jdbcParameters,
+				jdbcParameterBindings,
+				true,
+				true
+		);
 	}
 
 	public interface RegistrationHandler {
@@ -143,6 +325,8 @@ public class SubselectFetch {
 		private final TableGroup ownerTableGroup;
 		private final List<JdbcParameter> loadingJdbcParameters;
 		private final JdbcParameterBindings loadingJdbcParameterBindings;
+		private final boolean restrictByOwnerKeys;
+		private final boolean applyToAllCollections;
 		private final Map<NavigablePath, SubselectFetch> subselectFetches = new HashMap<>();
 
 		private StandardRegistrationHandler(
@@ -150,16 +334,25 @@ public class SubselectFetch {
 				SelectStatement loadingSqlAst,
 				TableGroup ownerTableGroup,
 				List<JdbcParameter> loadingJdbcParameters,
-				JdbcParameterBindings loadingJdbcParameterBindings) {
+				JdbcParameterBindings loadingJdbcParameterBindings,
+				boolean restrictByOwnerKeys,
+				boolean applyToAllCollections) {
 			this.batchFetchQueue = batchFetchQueue;
 			this.loadingSqlAst = loadingSqlAst;
 			this.ownerTableGroup = ownerTableGroup;
 			this.loadingJdbcParameters = loadingJdbcParameters;
 			this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
+			this.restrictByOwnerKeys = restrictByOwnerKeys;
+			this.applyToAllCollections = applyToAllCollections;
 		}
 
 		public void addKey(EntityKey key, LoadingEntityEntry entry) {
-			if ( !entry.getDescriptor().hasSubselectLoadableCollections() ) {
+			if ( applyToAllCollections ) {
+				if ( !entry.getDescriptor().hasCollections() ) {
+					return;
+				}
+			}
+			else if ( !entry.getDescriptor().hasSubselectLoadableCollections() ) {
 				return;
 			}
 
@@ -172,10 +365,12 @@ public class SubselectFetch {
 								ownerTableGroup,
 								loadingJdbcParameters,
 								loadingJdbcParameterBindings,
-								new HashSet<>()
+								new HashSet<>(),
+								restrictByOwnerKeys,
+								applyToAllCollections
 						)
 				);
-				subselectFetch.resultingEntityKeys.add( key );
+				subselectFetch.addResultingEntityKey( key );
 				batchFetchQueue.addSubselect( key, subselectFetch );
 			}
 		}
@@ -206,6 +206,8 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
+		final DefaultFlushEntityEventListener defaultListener = getSoleDefaultListener( flushListeners );
+
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 			// Update the status of the object and if necessary, schedule an update
 
@@ -213,7 +215,11 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			Status status = entry.getStatus();
 
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( defaultListener != null && isSkippableReadOnly( entry, status ) ) {
+				// the listener would only have checked that the id was not altered
+				defaultListener.checkId( me.getKey(), entry.getPersister(), entry.getId(), source );
+			}
+			else if ( status != Status.LOADING && status != Status.GONE ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
@@ -229,6 +235,31 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	/**
+	 * The {@link DefaultFlushEntityEventListener}, if it is the only registered listener.
+	 */
+	private static DefaultFlushEntityEventListener getSoleDefaultListener(
+			EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		DefaultFlushEntityEventListener defaultListener = null;
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class || defaultListener != null ) {
+				return null;
+			}
+			defaultListener = (DefaultFlushEntityEventListener) listener;
+		}
+		return defaultListener;
+	}
+
+	/**
+	 * The {@link DefaultFlushEntityEventListener} never dirty-checks a read-only entity,
+	 * so unless the entity has collections which need to be discovered by reachability,
+	 * there is nothing to be done for it except checking its id, and we can avoid
+	 * extracting its current state.
+	 */
+	private static boolean isSkippableReadOnly(EntityEntry entry, Status status) {
+		return status == Status.READ_ONLY && !entry.getPersister().hasCollections();
+	}
+
 	/**
 	 * Reuses a FlushEntityEvent for a new purpose, if possible;
 	 * if not possible a new actual instance is returned.
@@ -6,6 +6,13 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.ActionQueue;
@@ -13,9 +20,18 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -29,6 +45,12 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	// marks an entity or collection from which the affected tables could not be determined
+	private static final Set<String> ALL_SPACES = Collections.emptySet();
+
+	private final ConcurrentMap<String, Set<String>> affectedSpacesByEntityName = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Set<String>> affectedSpacesByCollectionRole = new ConcurrentHashMap<>();
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -37,10 +59,12 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
 		final SessionEventListenerManager eventListenerManager = source.getEventListenerManager();
+		final EventManager eventManager = source.getEventManager();
+		final HibernateMonitoringEvent flushEvent = eventManager.beginFlushEvent();
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			if ( flushMightBeNeeded( source ) && flushMightAffectQuerySpaces( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
@@ -74,6 +98,15 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 					event.getNumberOfEntitiesProcessed(),
 					event.getNumberOfEntitiesProcessed()
 			);
+			if ( event.isFlushRequired() ) {
+				eventManager.completeFlushEvent(
+						flushEvent,
+						source,
+						event.getNumberOfEntitiesProcessed(),
+						event.getNumberOfCollectionsProcessed(),
+						true
+				);
+			}
 		}
 	}
 
@@ -82,6 +115,163 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * Determine, without dirty-checking the managed entities, whether flushing the session
+	 * could possibly affect any of the tables of the query.  This is the case if one of the
+	 * query spaces is reachable from one of the entities or collections associated with the
+	 * persistence context, or if there already are actions affecting them in the queue.
+	 */
+	private boolean flushMightAffectQuerySpaces(AutoFlushEvent event, EventSource source) {
+		if ( source.getHibernateFlushMode() == FlushMode.ALWAYS
+				|| !source.getFactory().getSessionFactoryOptions().isAutoFlushSkipUnreachableSpacesEnabled() ) {
+			return true;
+		}
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( querySpaces == null || querySpaces.isEmpty()
+				|| source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			return true;
+		}
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Set<EntityPersister> entityPersisters = persistenceContext.getInvolvedEntityPersisters();
+		final Set<CollectionPersister> collectionPersisters = persistenceContext.getInvolvedCollectionPersisters();
+		if ( entityPersisters == null || collectionPersisters == null ) {
+			return true;
+		}
+		final MappingMetamodelImplementor mappingMetamodel =
+				source.getFactory().getRuntimeMetamodels().getMappingMetamodel();
+		for ( EntityPersister persister : entityPersisters ) {
+			if ( intersects( querySpaces, getAffectedSpaces( persister, mappingMetamodel ) ) ) {
+				return true;
+			}
+		}
+		for ( CollectionPersister persister : collectionPersisters ) {
+			if ( intersects( querySpaces, getAffectedSpaces( persister, mappingMetamodel ) ) ) {
+				return true;
+			}
+		}
+		LOG.trace( "No need to execute flush, query spaces not reachable from the persistence context" );
+		event.setFlushRequired( false );
+		return false;
+	}
+
+	private static boolean intersects(Set<String> querySpaces, Set<String> affectedSpaces) {
+		if ( affectedSpaces == ALL_SPACES ) {
+			return true;
+		}
+		for ( String querySpace : querySpaces ) {
+			if ( affectedSpaces.contains( querySpace ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The tables which might be written when flushing an instance of the given entity,
+	 * including the tables of any entity or collection reachable from it, since these
+	 * might be affected by cascades or collection updates.
+	 */
+	private Set<String> getAffectedSpaces(EntityPersister persister, MappingMetamodelImplementor mappingMetamodel) {
+		final Set<String> affectedSpaces = affectedSpacesByEntityName.get( persister.getEntityName() );
+		if ( affectedSpaces != null ) {
+			return affectedSpaces;
+		}
+		final Set<String> spaces = new HashSet<>();
+		final boolean known = collectSpaces( persister, mappingMetamodel, new HashSet<>(), spaces );
+		final Set<String> result = known ? spaces : ALL_SPACES;
+		affectedSpacesByEntityName.put( persister.getEntityName(), result );
+		return result;
+	}
+
+	private Set<String> getAffectedSpaces(CollectionPersister persister, MappingMetamodelImplementor mappingMetamodel) {
+		final Set<String> affectedSpaces = affectedSpacesByCollectionRole.get( persister.getRole() );
+		if ( affectedSpaces != null ) {
+			return affectedSpaces;
+		}
+		final Set<String> spaces = new HashSet<>();
+		final boolean known = collectSpaces( persister, mappingMetamodel, new HashSet<>(), spaces );
+		final Set<String> result = known ? spaces : ALL_SPACES;
+		affectedSpacesByCollectionRole.put( persister.getRole(), result );
+		return result;
+	}
+
+	/**
+	 * @return {@code false} if the affected spaces cannot be determined
+	 */
+	private static boolean collectSpaces(
+			EntityPersister persister,
+			MappingMetamodelImplementor mappingMetamodel,
+			Set<String> visitedEntityNames,
+			Set<String> spaces) {
+		for ( String entityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+			if ( visitedEntityNames.add( entityName ) ) {
+				final EntityPersister subclassPersister = mappingMetamodel.getEntityDescriptor( entityName );
+				for ( Serializable space : subclassPersister.getQuerySpaces() ) {
+					spaces.add( space.toString() );
+				}
+				if ( !collectSpaces( subclassPersister.getIdentifierType(), mappingMetamodel, visitedEntityNames, spaces ) ) {
+					return false;
+				}
+				for ( Type type : subclassPersister.getPropertyTypes() ) {
+					if ( !collectSpaces( type, mappingMetamodel, visitedEntityNames, spaces ) ) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean collectSpaces(
+			CollectionPersister persister,
+			MappingMetamodelImplementor mappingMetamodel,
+			Set<String> visitedEntityNames,
+			Set<String> spaces) {
+		for ( Serializable space : persister.getCollectionSpaces() ) {
+			spaces.add( space.toString() );
+		}
+		return collectSpaces( persister.getElementType(), mappingMetamodel, visitedEntityNames, spaces )
+				&& ( !persister.hasIndex()
+						|| collectSpaces( persister.getIndexType(), mappingMetamodel, visitedEntityNames, spaces ) );
+	}
+
+	private static boolean collectSpaces(
+			Type type,
+			MappingMetamodelImplementor mappingMetamodel,
+			Set<String> visitedEntityNames,
+			Set<String> spaces) {
+		if ( type.isAnyType() ) {
+			// the associated entity might be of any type
+			return false;
+		}
+		else if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			return collectSpaces(
+					mappingMetamodel.getEntityDescriptor( entityType.getAssociatedEntityName() ),
+					mappingMetamodel,
+					visitedEntityNames,
+					spaces
+			);
+		}
+		else if ( type.isCollectionType() ) {
+			final CollectionType collectionType = (CollectionType) type;
+			return collectSpaces(
+					mappingMetamodel.getCollectionDescriptor( collectionType.getRole() ),
+					mappingMetamodel,
+					visitedEntityNames,
+					spaces
+			);
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !collectSpaces( subtype, mappingMetamodel, visitedEntityNames, spaces ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -8,9 +8,11 @@ package org.hibernate.event.internal;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -32,6 +34,8 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getNumberOfManagedEntities() > 0
 				|| persistenceContext.getCollectionEntriesSize() > 0 ) {
 
+			final EventManager eventManager = source.getEventManager();
+			final HibernateMonitoringEvent flushEvent = eventManager.beginFlushEvent();
 			try {
 				source.getEventListenerManager().flushStart();
 
@@ -44,6 +48,13 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 						event.getNumberOfEntitiesProcessed(),
 						event.getNumberOfCollectionsProcessed()
 				);
+				eventManager.completeFlushEvent(
+						flushEvent,
+						source,
+						event.getNumberOfEntitiesProcessed(),
+						event.getNumberOfCollectionsProcessed(),
+						false
+				);
 			}
 
 			postPostFlush( source );
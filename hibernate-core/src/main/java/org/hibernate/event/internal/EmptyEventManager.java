@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Collection;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+/**
+ * An {@link EventManager} which never emits events, used when no other
+ * event manager is available.
+ */
+public final class EmptyEventManager implements EventManager {
+	public static final EmptyEventManager INSTANCE = new EmptyEventManager();
+
+	private EmptyEventManager() {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(
+			HibernateMonitoringEvent flushEvent,
+			SharedSessionContractImplementor session,
+			int numberOfEntitiesProcessed,
+			int numberOfCollectionsProcessed,
+			boolean autoFlush) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryExecutionEvent(
+			HibernateMonitoringEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String query) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryTranslationEvent(HibernateMonitoringEvent queryTranslationEvent, String sql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcSelectExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcSelectExecutionEvent(
+			HibernateMonitoringEvent jdbcSelectExecutionEvent,
+			SharedSessionContractImplementor session,
+			String sql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(HibernateMonitoringEvent jdbcBatchExecutionEvent, BatchKey batchKey) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginTimestampsCacheCheckEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeTimestampsCacheCheckEvent(
+			HibernateMonitoringEvent timestampsCacheCheckEvent,
+			SharedSessionContractImplementor session,
+			Collection<String> querySpaces,
+			boolean upToDate) {
+	}
+}
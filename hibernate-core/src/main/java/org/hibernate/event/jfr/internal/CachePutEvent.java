@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( CachePutEvent.NAME )
+@Label( "Cache Put" )
+@Category( "Hibernate ORM" )
+@Description( "Put into the second-level cache" )
+@StackTrace( false )
+public class CachePutEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.CachePut";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Region Name" )
+	public String regionName;
+
+	@Label( "Cache Content Changed" )
+	public boolean cacheContentChanged;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import java.util.Collection;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits the Java Flight Recorder events of Hibernate.
+ * <p>
+ * Each {@code begin} method returns {@code null} unless the event is enabled
+ * in a running recording, in which case the event is instantiated and begun.
+ * The events do not depend on the {@link org.hibernate.stat.Statistics}.
+ * <p>
+ * This class requires the {@code jdk.jfr} module, and is only instantiated
+ * when the module is available.
+ */
+public final class JfrEventManager implements EventManager {
+
+	private static final EventType sessionOpenEventType = EventType.getEventType( SessionOpenEvent.class );
+	private static final EventType sessionClosedEventType = EventType.getEventType( SessionClosedEvent.class );
+	private static final EventType flushEventType = EventType.getEventType( SessionFlushEvent.class );
+	private static final EventType queryExecutionEventType = EventType.getEventType( QueryExecutionEvent.class );
+	private static final EventType queryTranslationEventType = EventType.getEventType( QueryTranslationEvent.class );
+	private static final EventType jdbcSelectExecutionEventType = EventType.getEventType( JdbcSelectExecutionEvent.class );
+	private static final EventType jdbcBatchExecutionEventType = EventType.getEventType( JdbcBatchExecutionEvent.class );
+	private static final EventType cacheGetEventType = EventType.getEventType( CacheGetEvent.class );
+	private static final EventType cachePutEventType = EventType.getEventType( CachePutEvent.class );
+	private static final EventType timestampsCacheCheckEventType = EventType.getEventType( TimestampsCacheCheckEvent.class );
+
+	public JfrEventManager() {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		if ( sessionOpenEventType.isEnabled() ) {
+			final SessionOpenEvent event = new SessionOpenEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(HibernateMonitoringEvent monitoringEvent, SharedSessionContractImplementor session) {
+		if ( monitoringEvent != null ) {
+			final SessionOpenEvent event = (SessionOpenEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		if ( sessionClosedEventType.isEnabled() ) {
+			final SessionClosedEvent event = new SessionClosedEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(HibernateMonitoringEvent monitoringEvent, SharedSessionContractImplementor session) {
+		if ( monitoringEvent != null ) {
+			final SessionClosedEvent event = (SessionClosedEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		if ( flushEventType.isEnabled() ) {
+			final SessionFlushEvent event = new SessionFlushEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			int numberOfEntitiesProcessed,
+			int numberOfCollectionsProcessed,
+			boolean autoFlush) {
+		if ( monitoringEvent != null ) {
+			final SessionFlushEvent event = (SessionFlushEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.numberOfEntitiesProcessed = numberOfEntitiesProcessed;
+				event.numberOfCollectionsProcessed = numberOfCollectionsProcessed;
+				event.isAutoFlush = autoFlush;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryExecutionEvent() {
+		if ( queryExecutionEventType.isEnabled() ) {
+			final QueryExecutionEvent event = new QueryExecutionEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeQueryExecutionEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			String query) {
+		if ( monitoringEvent != null ) {
+			final QueryExecutionEvent event = (QueryExecutionEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.query = query;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryTranslationEvent() {
+		if ( queryTranslationEventType.isEnabled() ) {
+			final QueryTranslationEvent event = new QueryTranslationEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeQueryTranslationEvent(HibernateMonitoringEvent monitoringEvent, String sql) {
+		if ( monitoringEvent != null ) {
+			final QueryTranslationEvent event = (QueryTranslationEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sql = sql;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcSelectExecutionEvent() {
+		if ( jdbcSelectExecutionEventType.isEnabled() ) {
+			final JdbcSelectExecutionEvent event = new JdbcSelectExecutionEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcSelectExecutionEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			String sql) {
+		if ( monitoringEvent != null ) {
+			final JdbcSelectExecutionEvent event = (JdbcSelectExecutionEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.sql = sql;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		if ( jdbcBatchExecutionEventType.isEnabled() ) {
+			final JdbcBatchExecutionEvent event = new JdbcBatchExecutionEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(HibernateMonitoringEvent monitoringEvent, BatchKey batchKey) {
+		if ( monitoringEvent != null ) {
+			final JdbcBatchExecutionEvent event = (JdbcBatchExecutionEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.batchKey = batchKey.toLoggableString();
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		if ( cacheGetEventType.isEnabled() ) {
+			final CacheGetEvent event = new CacheGetEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		if ( monitoringEvent != null ) {
+			final CacheGetEvent event = (CacheGetEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.regionName = region.getName();
+				event.hit = hit;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		if ( cachePutEventType.isEnabled() ) {
+			final CachePutEvent event = new CachePutEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged) {
+		if ( monitoringEvent != null ) {
+			final CachePutEvent event = (CachePutEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.regionName = region.getName();
+				event.cacheContentChanged = cacheContentChanged;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginTimestampsCacheCheckEvent() {
+		if ( timestampsCacheCheckEventType.isEnabled() ) {
+			final TimestampsCacheCheckEvent event = new TimestampsCacheCheckEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeTimestampsCacheCheckEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			Collection<String> querySpaces,
+			boolean upToDate) {
+		if ( monitoringEvent != null ) {
+			final TimestampsCacheCheckEvent event = (TimestampsCacheCheckEvent) monitoringEvent;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.sessionIdentifier = getSessionIdentifier( session );
+				event.querySpaces = String.join( ",", querySpaces );
+				event.upToDate = upToDate;
+				event.commit();
+			}
+		}
+	}
+
+	private static String getSessionIdentifier(SharedSessionContractImplementor session) {
+		return session == null ? null : session.getSessionIdentifier().toString();
+	}
+}
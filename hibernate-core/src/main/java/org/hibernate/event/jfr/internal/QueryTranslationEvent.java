@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( QueryTranslationEvent.NAME )
+@Label( "Query Translation" )
+@Category( "Hibernate ORM" )
+@Description( "Translation of an HQL or criteria query to SQL" )
+@StackTrace( false )
+public class QueryTranslationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.QueryTranslation";
+
+	@Label( "SQL" )
+	public String sql;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( TimestampsCacheCheckEvent.NAME )
+@Label( "Timestamps Cache Check" )
+@Category( "Hibernate ORM" )
+@Description( "Check of the update timestamps of the tables read by a cached query" )
+@StackTrace( false )
+public class TimestampsCacheCheckEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.TimestampsCacheCheck";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Query Spaces" )
+	public String querySpaces;
+
+	@Label( "Up To Date" )
+	public boolean upToDate;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
@@ -0,0 +1,18 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Defines the {@linkplain jdk.jfr.Event Java Flight Recorder events}
+ * emitted by Hibernate, in the category {@code Hibernate ORM}, along
+ * with the {@link org.hibernate.event.jfr.internal.JfrEventManager}
+ * which emits them. The classes of this package depend on the module
+ * {@code jdk.jfr}, and are only loaded when it is available.
+ * <p>
+ * The events are recorded whenever they are enabled in a running
+ * flight recording, whether or not statistics are enabled.
+ */
+package org.hibernate.event.jfr.internal;
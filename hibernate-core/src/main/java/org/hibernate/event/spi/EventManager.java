@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import java.util.Collection;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Emits the {@linkplain HibernateMonitoringEvent monitoring events} of a
+ * {@link org.hibernate.SessionFactory}, for example to a profiler.
+ * <p>
+ * Each {@code begin} method returns {@code null} unless the event is to be
+ * recorded, and the corresponding {@code complete} method ignores a
+ * {@code null} event, so that the events cost nothing more than a check
+ * of a flag when they are not recorded.
+ * <p>
+ * An implementation may be provided as a {@link java.util.ServiceLoader
+ * Java service}. Otherwise, the events are emitted to the Java Flight
+ * Recorder when the {@code jdk.jfr} module is available.
+ *
+ * @see org.hibernate.engine.spi.SessionFactoryImplementor#getEventManager()
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface EventManager {
+	HibernateMonitoringEvent beginSessionOpenEvent();
+
+	void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginSessionClosedEvent();
+
+	void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginFlushEvent();
+
+	void completeFlushEvent(
+			HibernateMonitoringEvent flushEvent,
+			SharedSessionContractImplementor session,
+			int numberOfEntitiesProcessed,
+			int numberOfCollectionsProcessed,
+			boolean autoFlush);
+
+	HibernateMonitoringEvent beginQueryExecutionEvent();
+
+	void completeQueryExecutionEvent(
+			HibernateMonitoringEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String query);
+
+	HibernateMonitoringEvent beginQueryTranslationEvent();
+
+	void completeQueryTranslationEvent(HibernateMonitoringEvent queryTranslationEvent, String sql);
+
+	HibernateMonitoringEvent beginJdbcSelectExecutionEvent();
+
+	void completeJdbcSelectExecutionEvent(
+			HibernateMonitoringEvent jdbcSelectExecutionEvent,
+			SharedSessionContractImplementor session,
+			String sql);
+
+	HibernateMonitoringEvent beginJdbcBatchExecutionEvent();
+
+	void completeJdbcBatchExecutionEvent(HibernateMonitoringEvent jdbcBatchExecutionEvent, BatchKey batchKey);
+
+	HibernateMonitoringEvent beginCacheGetEvent();
+
+	void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit);
+
+	HibernateMonitoringEvent beginCachePutEvent();
+
+	void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged);
+
+	HibernateMonitoringEvent beginTimestampsCacheCheckEvent();
+
+	void completeTimestampsCacheCheckEvent(
+			HibernateMonitoringEvent timestampsCacheCheckEvent,
+			SharedSessionContractImplementor session,
+			Collection<String> querySpaces,
+			boolean upToDate);
+}
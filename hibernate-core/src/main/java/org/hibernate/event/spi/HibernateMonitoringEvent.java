@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * An event emitted by an {@link EventManager} to monitor the operations of
+ * Hibernate, which is only meaningful to the {@code EventManager} which
+ * began it.
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface HibernateMonitoringEvent {
+}
@@ -27,8 +27,10 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors guard generation with a lock. Consider carefully
+	 * if a new implementation could drop this requirement. Prefer a
+	 * {@link java.util.concurrent.locks.Lock} over a {@code synchronized}
+	 * monitor, since the callback may perform JDBC I/O while it is held.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
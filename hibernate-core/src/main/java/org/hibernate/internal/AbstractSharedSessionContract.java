@@ -30,6 +30,7 @@ import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
 import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -587,7 +588,15 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	public JdbcConnectionAccess getJdbcConnectionAccess() {
 		// See class-level JavaDocs for a discussion of the concurrent-access safety of this method
 		if ( jdbcConnectionAccess == null ) {
-			if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
+			if ( fastSessionServices.connectionProvider instanceof ReadReplicaConnectionProvider ) {
+				jdbcConnectionAccess = new ReadReplicaJdbcConnectionAccess(
+						this,
+						getEventListenerManager(),
+						(ReadReplicaConnectionProvider) fastSessionServices.connectionProvider,
+						getFactory().getSessionFactoryOptions().getReadReplicaMaxLag()
+				);
+			}
+			else if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						getEventListenerManager(),
 						fastSessionServices.connectionProvider
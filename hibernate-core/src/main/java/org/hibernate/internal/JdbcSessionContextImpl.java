@@ -93,6 +93,16 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return settings().getStatementCacheSize();
+	}
+
+	@Override
+	public boolean isTransactionBeginDeferred() {
+		return settings().isTransactionBeginDeferred();
+	}
+
 	@Override
 	public StatementInspector getStatementInspector() {
 		return statementInspector;
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link JdbcConnectionAccess} which obtains the connection held by a session
+ * from a read replica when the connection is acquired, outside a transaction,
+ * to execute a read-only query.
+ * <p>
+ * The connection to the replica is released by the
+ * {@linkplain org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl
+ * logical connection} before a transaction begins, and before any other statement
+ * which might write to the database, or lock rows, is executed, so that these
+ * statements are executed using a connection to the primary database.
+ *
+ * @see ReadReplicaConnectionProvider
+ */
+public class ReadReplicaJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
+	private final SharedSessionContractImplementor session;
+	private final SessionEventListener listener;
+	private final ReadReplicaConnectionProvider connectionProvider;
+	private final long maxLag;
+
+	private transient boolean routeToReadReplica;
+	private transient Connection readReplicaConnection;
+
+	public ReadReplicaJdbcConnectionAccess(
+			SharedSessionContractImplementor session,
+			SessionEventListener listener,
+			ReadReplicaConnectionProvider connectionProvider,
+			long maxLag) {
+		Objects.requireNonNull( session );
+		Objects.requireNonNull( listener );
+		Objects.requireNonNull( connectionProvider );
+		this.session = session;
+		this.listener = listener;
+		this.connectionProvider = connectionProvider;
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * Called before a query is executed by a session which is not physically
+	 * connected, to route the connection it is about to acquire to a read
+	 * replica if the query is read-only, and does not lock rows, unless one
+	 * of the tables the query reads from was modified within the tolerated
+	 * replication lag.
+	 * <p>
+	 * Within a transaction, the connection is also used by the statements
+	 * which follow the query, for example to flush the session, so it is
+	 * never routed to a read replica.
+	 *
+	 * @param querySpaces the tables read by the query
+	 * @param readOnly whether the query is read-only, and does not lock rows
+	 */
+	public void beforeQuery(Collection<String> querySpaces, boolean readOnly) {
+		routeToReadReplica = readOnly
+				&& !session.isTransactionInProgress()
+				&& !isWithinReplicationLag( querySpaces );
+	}
+
+	/**
+	 * Whether the given connection was obtained from the read replica.
+	 */
+	public boolean isReadReplicaConnection(Connection connection) {
+		return connection != null && connection == readReplicaConnection;
+	}
+
+	/**
+	 * Whether one of the given tables was modified within the tolerated replication
+	 * lag, according to the update timestamps of the query cache. The lag, given in
+	 * milliseconds, is converted to the timestamps of {@link SimpleTimestamper}, which
+	 * are generated by the {@link RegionFactory#nextTimestamp() region factories}
+	 * extending {@link org.hibernate.cache.spi.AbstractRegionFactory}.
+	 */
+	private boolean isWithinReplicationLag(Collection<String> querySpaces) {
+		if ( maxLag <= 0 || querySpaces.isEmpty()
+				|| !session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+			// nothing records update timestamps
+			return false;
+		}
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
+		final long lag = maxLag * SimpleTimestamper.ONE_MS;
+		return !session.getFactory().getCache().getTimestampsCache()
+				.isUpToDate( querySpaces, regionFactory.nextTimestamp() - lag, session );
+	}
+
+	@Override
+	public Connection obtainConnection() throws SQLException {
+		try {
+			listener.jdbcConnectionAcquisitionStart();
+			if ( routeToReadReplica ) {
+				readReplicaConnection = connectionProvider.getReadReplicaConnection();
+				return readReplicaConnection;
+			}
+			else {
+				return connectionProvider.getConnection();
+			}
+		}
+		finally {
+			routeToReadReplica = false;
+			listener.jdbcConnectionAcquisitionEnd();
+		}
+	}
+
+	@Override
+	public void releaseConnection(Connection connection) throws SQLException {
+		try {
+			listener.jdbcConnectionReleaseStart();
+			if ( connection == readReplicaConnection ) {
+				readReplicaConnection = null;
+				connectionProvider.closeReadReplicaConnection( connection );
+			}
+			else {
+				connectionProvider.closeConnection( connection );
+			}
+		}
+		finally {
+			listener.jdbcConnectionReleaseEnd();
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return connectionProvider.supportsAggressiveRelease();
+	}
+}
@@ -28,6 +28,8 @@ public interface SessionCreationOptions {
 
 	FlushMode getInitialSessionFlushMode();
 
+	boolean isDefaultReadOnly();
+
 	boolean shouldAutoClose();
 
 	boolean shouldAutoClear();
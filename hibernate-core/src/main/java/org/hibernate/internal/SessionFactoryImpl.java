@@ -12,6 +12,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -63,7 +64,10 @@ import org.hibernate.engine.spi.SessionBuilderImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.event.spi.EventEngine;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.generator.Generator;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.id.IdentifierGenerator;
@@ -166,6 +170,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 
 	private final transient SessionFactoryServiceRegistry serviceRegistry;
 	private final transient EventEngine eventEngine;
+	private final transient EventManager eventManager;
 	private final transient JdbcServices jdbcServices;
 	private final transient SqlStringGenerationContext sqlStringGenerationContext;
 
@@ -212,6 +217,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		serviceRegistry = getServiceRegistry( options, this );
 
 		eventEngine = new EventEngine( bootMetamodel, this );
+		eventManager = createEventManager( serviceRegistry );
 
 		bootMetamodel.initSessionFactory( this );
 
@@ -648,6 +654,26 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		return eventEngine;
 	}
 
+	@Override
+	public EventManager getEventManager() {
+		return eventManager;
+	}
+
+	private static EventManager createEventManager(SessionFactoryServiceRegistry serviceRegistry) {
+		final Collection<EventManager> eventManagers =
+				serviceRegistry.getService( ClassLoaderService.class ).loadJavaServices( EventManager.class );
+		if ( !eventManagers.isEmpty() ) {
+			return eventManagers.iterator().next();
+		}
+		else if ( ModuleLayer.boot().findModule( "jdk.jfr" ).isPresent() ) {
+			// the classes of the JFR events may only be loaded when the module is available
+			return new JfrEventManager();
+		}
+		else {
+			return EmptyEventManager.INSTANCE;
+		}
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return jdbcServices;
@@ -1215,6 +1241,11 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return flushMode;
 		}
 
+		@Override
+		public boolean isDefaultReadOnly() {
+			return false;
+		}
+
 		@Override
 		public boolean shouldAutoClose() {
 			return autoClose;
@@ -1365,6 +1396,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		private final SessionFactoryImpl sessionFactory;
 		private Connection connection;
 		private String tenantIdentifier;
+		private boolean readOnly;
 
 		public StatelessSessionBuilderImpl(SessionFactoryImpl sessionFactory) {
 			this.sessionFactory = sessionFactory;
@@ -1392,6 +1424,17 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return this;
 		}
 
+		@Override
+		public StatelessSessionBuilder readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
+		@Override
+		public boolean isDefaultReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public boolean shouldAutoJoinTransactions() {
 			return true;
@@ -78,11 +78,13 @@ import org.hibernate.event.spi.DeleteEvent;
 import org.hibernate.event.spi.DeleteEventListener;
 import org.hibernate.event.spi.DirtyCheckEvent;
 import org.hibernate.event.spi.DirtyCheckEventListener;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.EvictEvent;
 import org.hibernate.event.spi.EvictEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.event.spi.LoadEvent;
@@ -123,8 +125,10 @@ import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.Query;
+import org.hibernate.query.QueryBatch;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.UnknownSqlResultSetMappingException;
+import org.hibernate.query.internal.QueryBatchImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl;
@@ -216,6 +220,8 @@ public class SessionImpl
 
 	public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
+		final EventManager eventManager = getEventManager();
+		final HibernateMonitoringEvent sessionOpenEvent = eventManager.beginSessionOpenEvent();
 
 		persistenceContext = createPersistenceContext();
 		actionQueue = createActionQueue();
@@ -261,6 +267,8 @@ public class SessionImpl
 		if ( log.isTraceEnabled() ) {
 			log.tracef( "Opened Session [%s] at timestamp: %s", getSessionIdentifier(), currentTimeMillis() );
 		}
+
+		eventManager.completeSessionOpenEvent( sessionOpenEvent, this );
 	}
 
 	private FlushMode getInitialFlushMode() {
@@ -402,6 +410,9 @@ public class SessionImpl
 			log.tracef( "Closing session [%s]", getSessionIdentifier() );
 		}
 
+		final EventManager eventManager = getEventManager();
+		final HibernateMonitoringEvent sessionClosedEvent = eventManager.beginSessionClosedEvent();
+
 		// todo : we want this check if usage is JPA, but not native Hibernate usage
 		final SessionFactoryImplementor sessionFactory = getSessionFactory();
 		if ( sessionFactory.getSessionFactoryOptions().isJpaBootstrap() ) {
@@ -424,6 +435,8 @@ public class SessionImpl
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.closeSession();
 		}
+
+		eventManager.completeSessionClosedEvent( sessionClosedEvent, this );
 	}
 
 	private boolean isTransactionInProgressAndNotMarkedForRollback() {
@@ -2833,6 +2846,12 @@ public class SessionImpl
 		return getEntityManagerFactory().findEntityGraphsByType( entityClass );
 	}
 
+	@Override
+	public QueryBatch createQueryBatch() {
+		checkOpen();
+		return new QueryBatchImpl( this );
+	}
+
 	/**
 	 * Used by JDK serialization...
 	 *
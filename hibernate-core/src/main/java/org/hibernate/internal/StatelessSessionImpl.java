@@ -75,10 +75,12 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	private final PersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
 
 	private final boolean connectionProvided;
+	private final boolean defaultReadOnly;
 
 	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
+		defaultReadOnly = options.isDefaultReadOnly();
 	}
 
 	@Override
@@ -545,11 +547,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 	public boolean isDefaultReadOnly() {
-		return false;
+		return defaultReadOnly;
 	}
 
 	public void setDefaultReadOnly(boolean readOnly) throws HibernateException {
-		if ( readOnly ) {
+		if ( readOnly != defaultReadOnly ) {
 			throw new UnsupportedOperationException();
 		}
 	}
@@ -63,6 +63,43 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for enabling concurrent assembly of the results of a
+	 * query. The JDBC values are still read on the calling thread,
+	 * but the results are then assembled in chunks using the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool()
+	 * common fork/join pool}.
+	 *
+	 * @implSpec Only has an effect on scalar and tuple results which
+	 *           do not involve the persistence context, and only when
+	 *           no application code runs during assembly, that is, no
+	 *           {@link jakarta.persistence.AttributeConverter} applies,
+	 *           no dynamic instantiation is selected, and no
+	 *           {@link org.hibernate.query.TupleTransformer} is set.
+	 *
+	 * @since 6.3
+	 */
+	String HINT_PARALLEL_ASSEMBLY = "org.hibernate.parallelAssembly";
+
+	/**
+	 * Hint for splitting the collection fetches requested by an
+	 * {@linkplain jakarta.persistence.EntityGraph entity graph} or
+	 * {@linkplain org.hibernate.annotations.FetchProfile fetch profile}
+	 * into secondary selects. Instead of being join fetched by the
+	 * query, each collection role is then loaded by one additional
+	 * select restricted by the keys of the owners read by the query,
+	 * which avoids the cartesian product of joining several collections
+	 * and allows fetching more than one bag.
+	 *
+	 * @implSpec Only applies to the collections of the entities
+	 *           directly returned by the query. Collections which
+	 *           are explicitly fetched by the query, and collections
+	 *           of fetched associations, are still joined.
+	 *
+	 * @since 6.3
+	 */
+	String HINT_SPLIT_COLLECTION_FETCH = "org.hibernate.splitCollectionFetch";
+
 	/**
 	 * Hint for specifying whether results from a query should be 
 	 * stored in the query cache.
@@ -404,6 +404,16 @@ public class CacheEntityLoaderHelper {
 		final Object version;
 		final boolean isReadOnly;
 
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		if ( proxy != null ) {
+			// there is already a proxy for this impl
+			// only set the status to read-only if the proxy is read-only
+			isReadOnly = HibernateProxy.extractLazyInitializer( proxy ).isReadOnly();
+		}
+		else {
+			isReadOnly = source.isDefaultReadOnly();
+		}
+
 		final Type[] types = subclassPersister.getPropertyTypes();
 		// initializes the entity by (desired) side-effect
 		values = ( (StandardCacheEntryImpl) entry ).assemble(
@@ -413,7 +423,8 @@ public class CacheEntityLoaderHelper {
 				source.getInterceptor(),
 				source
 		);
-		if ( ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
+		// no snapshot is kept for read-only entities, so there is no need to copy the state
+		if ( !isReadOnly && ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
 			TypeHelper.deepCopy(
 					values,
 					types,
@@ -425,16 +436,6 @@ public class CacheEntityLoaderHelper {
 		version = getVersion( values, subclassPersister );
 		LOG.tracef( "Cached Version : %s", version );
 
-		final Object proxy = persistenceContext.getProxy( entityKey );
-		if ( proxy != null ) {
-			// there is already a proxy for this impl
-			// only set the status to read-only if the proxy is read-only
-			isReadOnly = HibernateProxy.extractLazyInitializer( proxy ).isReadOnly();
-		}
-		else {
-			isReadOnly = source.isDefaultReadOnly();
-		}
-
 		persistenceContext.addEntry(
 				entity,
 				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
@@ -23,12 +23,15 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.internal.ResultsHelper;
@@ -53,6 +56,11 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	private SelectStatement batchSizeSqlAst;
 	private List<JdbcParameter> batchSizeJdbcParameters;
 
+	private final JdbcMapping arrayJdbcMapping;
+	private final JdbcParameter arrayParameter;
+	private final SelectStatement arraySqlAst;
+	private final JdbcOperationQuerySelect arrayJdbcSelect;
+
 	public CollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
 			int batchSize,
@@ -63,18 +71,45 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.batchSizeJdbcParameters = new ArrayList<>();
-		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				null,
-				attributeMapping.getKeyDescriptor(),
-				null,
-				batchSize,
-				influencers,
-				LockOptions.NONE,
-				batchSizeJdbcParameters::add,
-				sessionFactory
-		);
+		final ForeignKeyDescriptor keyDescriptor = attributeMapping.getKeyDescriptor();
+		if ( MultiKeyLoadHelper.isArrayParameterApplicable( keyDescriptor, sessionFactory ) ) {
+			// the same statement serves any number of keys, so build it once
+			this.arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( keyDescriptor, sessionFactory );
+			this.arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			this.arraySqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					attributeMapping,
+					keyDescriptor,
+					influencers,
+					LockOptions.NONE,
+					arrayParameter,
+					jdbcParameter -> {},
+					sessionFactory
+			);
+			this.arrayJdbcSelect = sessionFactory.getJdbcServices()
+					.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildSelectTranslator( sessionFactory, arraySqlAst )
+					.translate( null, QueryOptions.NONE );
+		}
+		else {
+			this.arrayJdbcMapping = null;
+			this.arrayParameter = null;
+			this.arraySqlAst = null;
+			this.arrayJdbcSelect = null;
+
+			this.batchSizeJdbcParameters = new ArrayList<>();
+			this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
+					attributeMapping,
+					null,
+					keyDescriptor,
+					null,
+					batchSize,
+					influencers,
+					LockOptions.NONE,
+					batchSizeJdbcParameters::add,
+					sessionFactory
+			);
+		}
 	}
 
 	@Override
@@ -115,6 +150,9 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 					session.getFactory()
 			).load( key, session );
 		}
+		else if ( arrayJdbcSelect != null ) {
+			batchLoadWithArrayParameter( batchIds, numberOfIds, session );
+		}
 		else {
 			batchLoad( batchIds, numberOfIds , session );
 		}
@@ -123,6 +161,20 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
 
+	/**
+	 * Load the collections with exactly the given keys, in batches of at most
+	 * the batch size of this loader, rather than the keys queued in the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue}
+	 */
+	void load(Object[] keys, SharedSessionContractImplementor session) {
+		if ( arrayJdbcSelect != null ) {
+			batchLoadWithArrayParameter( keys, keys.length, session );
+		}
+		else {
+			batchLoad( keys, keys.length, session );
+		}
+	}
+
 	private void batchLoad(
 			Object[] batchIds,
 			int numberOfIds,
@@ -154,7 +206,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 						null,
 						getLoadable().getKeyDescriptor(),
 						null,
-						numberOfIds,
+						smallBatchLength,
 						session.getLoadQueryInfluencers(),
 						LockOptions.NONE,
 						jdbcParameters::add,
@@ -217,6 +269,50 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 	}
 
+	private void batchLoadWithArrayParameter(
+			Object[] batchIds,
+			int numberOfIds,
+			SharedSessionContractImplementor session) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Batch loading collection [%s] using array parameter : %s",
+					getLoadable().getCollectionDescriptor().getRole(),
+					batchIds
+			);
+		}
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		arrayJdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+		MultiKeyLoadHelper.bindArrayParameter(
+				arrayParameter,
+				arrayJdbcMapping,
+				batchIds,
+				0,
+				numberOfIds,
+				jdbcParameterBindings
+		);
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				arraySqlAst,
+				Collections.emptyList(),
+				jdbcParameterBindings
+		);
+
+		session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				arrayJdbcSelect,
+				jdbcParameterBindings,
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+
+		for ( int i = 0; i < numberOfIds; i++ ) {
+			// collections that were not initialized here should be empty
+			finishLoadingCollection( batchIds[i], session );
+		}
+	}
+
 	private void finishLoadingCollection(Object key, SharedSessionContractImplementor session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
@@ -6,8 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -17,13 +19,16 @@ import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -39,27 +44,75 @@ import org.hibernate.sql.results.spi.ListResultsConsumer;
  * @author Steve Ebersole
  */
 public class CollectionLoaderSubSelectFetch implements CollectionLoader {
+	/**
+	 * The maximum number of owner keys restricting a single select, when
+	 * the dialect does not limit the number of expressions of an in-list
+	 */
+	private static final int MAX_OWNER_KEYS_PER_SELECT = 1000;
+
 	private final PluralAttributeMapping attributeMapping;
 	private final SubselectFetch subselect;
 
 	private final SelectStatement sqlAst;
+	private final CollectionLoaderBatchKey ownerKeysLoader;
 
 	public CollectionLoaderSubSelectFetch(
 			PluralAttributeMapping attributeMapping,
 			DomainResult cachedDomainResult,
 			SubselectFetch subselect,
 			SharedSessionContractImplementor session) {
+		this( attributeMapping, cachedDomainResult, subselect, null, session );
+	}
+
+	/**
+	 * @param ownerKeysLoader The loader of the collections of a fetch
+	 * {@linkplain SubselectFetch#isRestrictedByOwnerKeys() restricted by owner keys},
+	 * or {@code null} to {@linkplain #createOwnerKeysLoader create} one
+	 */
+	public CollectionLoaderSubSelectFetch(
+			PluralAttributeMapping attributeMapping,
+			DomainResult cachedDomainResult,
+			SubselectFetch subselect,
+			CollectionLoaderBatchKey ownerKeysLoader,
+			SharedSessionContractImplementor session) {
 		this.attributeMapping = attributeMapping;
 		this.subselect = subselect;
 
-		sqlAst = LoaderSelectBuilder.createSubSelectFetchSelect(
+		if ( subselect.isRestrictedByOwnerKeys() ) {
+			// the collections are loaded by key
+			sqlAst = null;
+			this.ownerKeysLoader = ownerKeysLoader != null
+					? ownerKeysLoader
+					: createOwnerKeysLoader( attributeMapping, session.getLoadQueryInfluencers(), session.getFactory() );
+		}
+		else {
+			sqlAst = LoaderSelectBuilder.createSubSelectFetchSelect(
+					attributeMapping,
+					subselect,
+					cachedDomainResult,
+					session.getLoadQueryInfluencers(),
+					LockOptions.NONE,
+					jdbcParameter -> {},
+					session.getFactory()
+			);
+			this.ownerKeysLoader = null;
+		}
+	}
+
+	/**
+	 * Create a loader of the collections of a fetch {@linkplain SubselectFetch#isRestrictedByOwnerKeys()
+	 * restricted by owner keys}, which may be reused for any number of keys.
+	 */
+	public static CollectionLoaderBatchKey createOwnerKeysLoader(
+			PluralAttributeMapping attributeMapping,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		final int inExpressionCountLimit = sessionFactory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		return new CollectionLoaderBatchKey(
 				attributeMapping,
-				subselect,
-				cachedDomainResult,
-				session.getLoadQueryInfluencers(),
-				LockOptions.NONE,
-				jdbcParameter -> {},
-				session.getFactory()
+				inExpressionCountLimit > 0 ? inExpressionCountLimit : MAX_OWNER_KEYS_PER_SELECT,
+				influencers,
+				sessionFactory
 		);
 	}
 
@@ -74,6 +127,10 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 
 	@Override
 	public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImplementor session) {
+		if ( subselect.isRestrictedByOwnerKeys() ) {
+			return loadByOwnerKeys( triggerKey, session );
+		}
+
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), triggerKey );
 
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
@@ -159,4 +216,39 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 		return collection;
 	}
 
+	/**
+	 * Load the collections of the owners loaded by a paginated or scrolled
+	 * query which are not yet initialized, restricting by their keys
+	 */
+	private PersistentCollection<?> loadByOwnerKeys(Object triggerKey, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final CollectionPersister collectionDescriptor = attributeMapping.getCollectionDescriptor();
+		final ForeignKeyDescriptor keyDescriptor = attributeMapping.getKeyDescriptor();
+		final PersistentCollection<?> triggerCollection = persistenceContext.getCollection(
+				new CollectionKey( collectionDescriptor, triggerKey )
+		);
+
+		// only the owners not yet considered for this role, so that each
+		// owner of a scroll is visited once rather than on every access
+		final Set<EntityKey> ownerKeys = subselect.takeUnfetchedEntityKeys( collectionDescriptor.getRole() );
+		final List<Object> keys = new ArrayList<>( ownerKeys.size() + 1 );
+		keys.add( triggerKey );
+		for ( EntityKey ownerKey : ownerKeys ) {
+			final Object owner = persistenceContext.getEntity( ownerKey );
+			if ( owner != null ) {
+				// the collection key is not the owner id if the key refers to another property
+				final Object key = keyDescriptor.getAssociationKeyFromSide( owner, keyDescriptor.getTargetSide(), session );
+				final PersistentCollection<?> collection = persistenceContext.getCollection(
+						new CollectionKey( collectionDescriptor, key )
+				);
+				if ( collection != null && collection != triggerCollection && !collection.wasInitialized() ) {
+					keys.add( key );
+				}
+			}
+		}
+
+		ownerKeysLoader.load( keys.toArray(), session );
+
+		return persistenceContext.getCollection( new CollectionKey( collectionDescriptor, triggerKey ) );
+	}
 }
@@ -31,13 +31,16 @@ import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
@@ -56,6 +59,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
 
+	private JdbcMapping arrayJdbcMapping;
+
 	public MultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
 			PersistentClass bootDescriptor,
@@ -107,6 +112,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( MultiKeyLoadHelper.isArrayParameterApplicable( entityDescriptor.getIdentifierMapping(), sessionFactory ) ) {
+			// a single array parameter is not subject to the limit on bind parameters
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -235,42 +244,67 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
-
+		final EntityIdentifierMapping identifierMapping = getLoadable().getIdentifierMapping();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
-
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
+		if ( MultiKeyLoadHelper.isArrayParameterApplicable( identifierMapping, sessionFactory ) ) {
+			if ( arrayJdbcMapping == null ) {
+				arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( identifierMapping, sessionFactory );
+			}
+			final JdbcParameter arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			jdbcParameters = new ArrayList<>( 1 );
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					identifierMapping,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					arrayParameter,
+					jdbcParameters::add,
+					sessionFactory
+			);
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			MultiKeyLoadHelper.bindArrayParameter( arrayParameter, arrayJdbcMapping, idsInBatch, jdbcParameterBindings );
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					identifierMapping,
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
 			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
+
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						offset,
+						identifierMapping,
+						jdbcParameters,
+						session
+				);
+			}
+
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -408,6 +442,9 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( MultiKeyLoadHelper.isArrayParameterApplicable( entityDescriptor.getIdentifierMapping(), sessionFactory ) ) {
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
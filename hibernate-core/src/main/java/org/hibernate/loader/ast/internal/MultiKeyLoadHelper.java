@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.BasicPluralType;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Support for restricting a load by many keys using a single SQL array
+ * parameter, rather than an {@code in} list with one parameter per key.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+ * @see org.hibernate.sql.ast.tree.predicate.InArrayPredicate
+ */
+public class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * Whether keys of the given part can be bound as a single array parameter.
+	 * This requires the feature to be enabled, a dialect with standard array
+	 * support and a single-column key of a basic type without value conversion.
+	 */
+	public static boolean isArrayParameterApplicable(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().isBatchFetchArrayParameterEnabled()
+				|| !sessionFactory.getJdbcServices().getDialect().supportsStandardArrays()
+				|| keyPart.getJdbcTypeCount() != 1 ) {
+			return false;
+		}
+		final JdbcMapping jdbcMapping = keyPart.getSingleJdbcMapping();
+		return jdbcMapping instanceof BasicType<?>
+				&& !( jdbcMapping instanceof BasicPluralType<?, ?> )
+				&& jdbcMapping.getValueConverter() == null;
+	}
+
+	/**
+	 * Resolve the mapping for an array of the given key part's values
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		final TypeConfiguration typeConfiguration = sessionFactory.getTypeConfiguration();
+		//noinspection unchecked
+		final BasicType<Object> elementType = (BasicType<Object>) keyPart.getSingleJdbcMapping();
+		final Class<?> arrayClass = Array.newInstance( elementType.getJavaTypeDescriptor().getJavaTypeClass(), 0 ).getClass();
+		final JavaType<Object> arrayJavaType = typeConfiguration.getJavaTypeRegistry().resolveDescriptor( arrayClass );
+		if ( !( arrayJavaType instanceof BasicPluralJavaType<?> ) ) {
+			throw new IllegalArgumentException( "Expecting BasicPluralJavaType for array class `" + arrayClass.getName() + "`" );
+		}
+		//noinspection unchecked
+		return ( (BasicPluralJavaType<Object>) arrayJavaType ).resolveType(
+				typeConfiguration,
+				sessionFactory.getJdbcServices().getDialect(),
+				elementType,
+				null
+		);
+	}
+
+	/**
+	 * Bind the given range of keys as the value of the array parameter
+	 */
+	public static void bindArrayParameter(
+			JdbcParameter arrayParameter,
+			JdbcMapping arrayJdbcMapping,
+			Object[] keys,
+			int start,
+			int length,
+			JdbcParameterBindings jdbcParameterBindings) {
+		final BasicPluralType<?, ?> arrayType = (BasicPluralType<?, ?>) arrayJdbcMapping;
+		final Object array = Array.newInstance( arrayType.getElementType().getJavaTypeDescriptor().getJavaTypeClass(), length );
+		for ( int i = 0; i < length; i++ ) {
+			Array.set( array, i, keys[start + i] );
+		}
+		jdbcParameterBindings.addBinding( arrayParameter, new JdbcParameterBindingImpl( arrayJdbcMapping, array ) );
+	}
+
+	/**
+	 * @see #bindArrayParameter(JdbcParameter, JdbcMapping, Object[], int, int, JdbcParameterBindings)
+	 */
+	public static void bindArrayParameter(
+			JdbcParameter arrayParameter,
+			JdbcMapping arrayJdbcMapping,
+			List<?> keys,
+			JdbcParameterBindings jdbcParameterBindings) {
+		bindArrayParameter( arrayParameter, arrayJdbcMapping, keys.toArray(), 0, keys.size(), jdbcParameterBindings );
+	}
+}
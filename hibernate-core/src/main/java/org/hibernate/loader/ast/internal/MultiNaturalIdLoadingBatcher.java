@@ -9,17 +9,21 @@ package org.hibernate.loader.ast.internal;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.NaturalIdResolutions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -54,6 +58,8 @@ public class MultiNaturalIdLoadingBatcher {
 
 	private final KeyValueResolver keyValueResolver;
 
+	private final LockOptions lockOptions;
+
 	private final JdbcOperationQuerySelect jdbcSelect;
 
 	public MultiNaturalIdLoadingBatcher(
@@ -82,6 +88,7 @@ public class MultiNaturalIdLoadingBatcher {
 		);
 
 		this.keyValueResolver = keyValueResolver;
+		this.lockOptions = lockOptions;
 
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
@@ -94,10 +101,40 @@ public class MultiNaturalIdLoadingBatcher {
 		final ArrayList<E> multiLoadResults = CollectionHelper.arrayList( naturalIdValues.length );
 		final JdbcParameterBindingsImpl jdbcParamBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 
+		// consult the natural-id cache before selecting, unless the
+		// entities must be locked in the database
+		final NaturalIdResolutions naturalIdResolutions;
+		if ( entityDescriptor.getNaturalIdMapping().getCacheAccess() != null
+				&& !lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			naturalIdResolutions = session.getPersistenceContextInternal().getNaturalIdResolutions();
+		}
+		else {
+			naturalIdResolutions = null;
+		}
+		final boolean cacheNonExistence = naturalIdResolutions != null
+				&& session.getFactory().getSessionFactoryOptions().getNaturalIdCacheNegativeTtl() > 0;
+		final List<Object> cachedIds = naturalIdResolutions == null ? null : new ArrayList<>();
+		final List<Object> batchValues = cacheNonExistence ? new ArrayList<>( jdbcParameters.size() ) : null;
+
 		int offset = 0;
 
 		for ( int i = 0; i < naturalIdValues.length; i++ ) {
 			final Object bindValue = keyValueResolver.resolveKeyToLoad( naturalIdValues[ i ], session );
+			if ( bindValue != null && naturalIdResolutions != null ) {
+				final Object cachedId = naturalIdResolutions.findCachedIdByNaturalId( bindValue, entityDescriptor );
+				if ( cachedId == NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE ) {
+					// known not to exist
+					continue;
+				}
+				else if ( cachedId != null ) {
+					cachedIds.add( cachedId );
+					continue;
+				}
+				else if ( batchValues != null ) {
+					batchValues.add( bindValue );
+				}
+			}
+
 			if ( bindValue != null ) {
 				offset += jdbcParamBindings.registerParametersForEachJdbcValue(
 						bindValue,
@@ -114,6 +151,9 @@ public class MultiNaturalIdLoadingBatcher {
 				multiLoadResults.addAll( batchResults );
 				jdbcParamBindings.clear();
 				offset = 0;
+				if ( batchValues != null ) {
+					cacheNonExistence( batchValues, batchResults, naturalIdResolutions, session );
+				}
 			}
 		}
 
@@ -130,11 +170,65 @@ public class MultiNaturalIdLoadingBatcher {
 			}
 			final List<E> batchResults = performLoad( jdbcParamBindings, session );
 			multiLoadResults.addAll( batchResults );
+			if ( batchValues != null ) {
+				cacheNonExistence( batchValues, batchResults, naturalIdResolutions, session );
+			}
+		}
+
+		if ( cachedIds != null && !cachedIds.isEmpty() ) {
+			final List<?> cachedResults = entityDescriptor.getEntityPersister().multiLoad(
+					cachedIds.toArray(),
+					session.asEventSource(),
+					new CachedIdLoadOptions( lockOptions )
+			);
+			for ( Object result : cachedResults ) {
+				if ( result != null ) {
+					//noinspection unchecked
+					multiLoadResults.add( (E) result );
+				}
+			}
 		}
 
 		return multiLoadResults;
 	}
 
+	/**
+	 * Records the natural-id values of a batch which did not match any of the
+	 * entities loaded by the batch as not existing
+	 */
+	private void cacheNonExistence(
+			List<Object> batchValues,
+			List<?> batchResults,
+			NaturalIdResolutions naturalIdResolutions,
+			SharedSessionContractImplementor session) {
+		final NaturalIdMapping naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+		final List<Object> loadedNaturalIds = new ArrayList<>( batchResults.size() );
+		for ( Object result : batchResults ) {
+			if ( result != null ) {
+				loadedNaturalIds.add( naturalIdMapping.extractNaturalIdFromEntity( result ) );
+			}
+		}
+		for ( Object value : batchValues ) {
+			if ( !containsNaturalId( loadedNaturalIds, value, naturalIdMapping, session ) ) {
+				naturalIdResolutions.cacheNonExistenceFromLoad( value, entityDescriptor );
+			}
+		}
+		batchValues.clear();
+	}
+
+	private static boolean containsNaturalId(
+			List<Object> naturalIds,
+			Object naturalId,
+			NaturalIdMapping naturalIdMapping,
+			SharedSessionContractImplementor session) {
+		for ( Object candidate : naturalIds ) {
+			if ( naturalIdMapping.areEqual( candidate, naturalId, session ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private <E> List<E> performLoad(JdbcParameterBindings jdbcParamBindings, SharedSessionContractImplementor session) {
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
 
@@ -162,4 +256,44 @@ public class MultiNaturalIdLoadingBatcher {
 		);
 	}
 
+	/**
+	 * Options for loading the entities whose ids were resolved from the natural-id cache
+	 */
+	private static class CachedIdLoadOptions implements MultiIdLoadOptions {
+		private final LockOptions lockOptions;
+
+		private CachedIdLoadOptions(LockOptions lockOptions) {
+			this.lockOptions = lockOptions;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
 }
@@ -8,8 +8,10 @@ package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -18,7 +20,9 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
@@ -26,12 +30,14 @@ import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -41,9 +47,22 @@ import org.jboss.logging.Logger;
 public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> {
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
+	/**
+	 * The weight of the most recent observation in the decayed average
+	 * maintained by adaptive batch fetching
+	 */
+	private static final double DEMAND_DECAY = 0.25;
+
 	private final int maxBatchSize;
 
+	private final int adaptiveMinBatchSize;
+	private final int adaptiveMaxBatchSize;
+	// the decayed average of initialized proxies per persistence context, as double bits
+	private final AtomicLong observedDemand;
+	private volatile int adaptiveBatchSize;
+
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
+	private JdbcMapping arrayJdbcMapping;
 
 	public SingleIdEntityLoaderDynamicBatch(
 			EntityMappingType entityDescriptor,
@@ -51,6 +70,61 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.maxBatchSize = maxBatchSize;
+
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		this.adaptiveMaxBatchSize = options.getAdaptiveBatchFetchMaxSize();
+		this.adaptiveMinBatchSize = Math.max( 2, Math.min( options.getAdaptiveBatchFetchMinSize(), adaptiveMaxBatchSize ) );
+		this.observedDemand = new AtomicLong( Double.doubleToLongBits( maxBatchSize ) );
+		this.adaptiveBatchSize = clampAdaptiveBatchSize( maxBatchSize );
+	}
+
+	/**
+	 * Whether the batch size is learned from observed proxy initializations
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	public boolean isAdaptive() {
+		return adaptiveMaxBatchSize > 0;
+	}
+
+	/**
+	 * The batch size currently used to load this entity
+	 */
+	public int getBatchSize() {
+		return isAdaptive() ? adaptiveBatchSize : maxBatchSize;
+	}
+
+	/**
+	 * Record the number of proxies of this entity which were initialized
+	 * within one persistence context, adjusting the adaptive batch size.
+	 */
+	@Override
+	public void recordInitializedProxies(int initializedProxies) {
+		if ( !isAdaptive() || initializedProxies <= 0 ) {
+			return;
+		}
+		long current;
+		double demand;
+		do {
+			current = observedDemand.get();
+			demand = Double.longBitsToDouble( current ) * ( 1 - DEMAND_DECAY ) + initializedProxies * DEMAND_DECAY;
+		} while ( !observedDemand.compareAndSet( current, Double.doubleToLongBits( demand ) ) );
+
+		final int batchSize = clampAdaptiveBatchSize( demand );
+		if ( batchSize != adaptiveBatchSize ) {
+			adaptiveBatchSize = batchSize;
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Adaptive batch size of entity [%s] is now %s", getLoadable().getEntityName(), batchSize );
+			}
+		}
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.adaptiveBatchFetchSize( getLoadable().getEntityName(), batchSize );
+		}
+	}
+
+	private int clampAdaptiveBatchSize(double demand) {
+		return (int) Math.max( adaptiveMinBatchSize, Math.min( adaptiveMaxBatchSize, Math.round( demand ) ) );
 	}
 
 	@Override
@@ -67,7 +141,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			SharedSessionContractImplementor session) {
 		final Object[] batchIds = session.getPersistenceContextInternal()
 				.getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), pkValue, maxBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), pkValue, getBatchSize() );
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 		if ( numberOfIds <= 1 ) {
@@ -90,41 +164,68 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
-		);
-
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
-				getLoadable().getIdentifierMapping().getJdbcTypeCount()
-		);
+		final EntityIdentifierMapping identifierMapping = getLoadable().getIdentifierMapping();
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
 
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					offset,
-					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
+		if ( MultiKeyLoadHelper.isArrayParameterApplicable( identifierMapping, sessionFactory ) ) {
+			if ( arrayJdbcMapping == null ) {
+				arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( identifierMapping, sessionFactory );
+			}
+			final JdbcParameter arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					identifierMapping,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					arrayParameter,
+					jdbcParameters::add,
+					sessionFactory
 			);
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			MultiKeyLoadHelper.bindArrayParameter(
+					arrayParameter,
+					arrayJdbcMapping,
+					idsToLoad,
+					0,
+					numberOfIds,
+					jdbcParameterBindings
+			);
+		}
+		else {
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					identifierMapping,
+					null,
+					numberOfIds,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( identifierMapping.getJdbcTypeCount() );
+
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						offset,
+						identifierMapping,
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
 		}
-		assert offset == jdbcParameters.size();
 
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
 				.buildSelectTranslator( sessionFactory, sqlAst )
@@ -8,15 +8,26 @@ package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.Filter;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.persister.entity.Loadable;
@@ -32,6 +43,14 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 	private EnumMap<LockMode, SingleIdLoadPlan> selectByLockMode = new EnumMap<>( LockMode.class );
 	private EnumMap<CascadingFetchProfile, SingleIdLoadPlan> selectByInternalCascadeProfile;
 
+	/**
+	 * The maximum number of plans cached for combinations of lock options,
+	 * filters, fetch profiles and entity graph affecting the load
+	 */
+	private static final int MAX_INFLUENCED_PLANS = 32;
+
+	private volatile BoundedConcurrentHashMap<LoadPlanKey, SingleIdLoadPlan<T>> selectByInfluencers;
+
 	private AtomicInteger nonReusablePlansGenerated = new AtomicInteger();
 
 	public AtomicInteger getNonReusablePlansGenerated() {
@@ -99,8 +118,7 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 			// This case is special because the filters need to be applied in order to
 			// 		properly restrict the SQL/JDBC results.  For this reason it has higher
 			// 		precedence than even "internal" fetch profiles.
-			nonReusablePlansGenerated.incrementAndGet();
-			return createLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+			return resolveInfluencedLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
 		}
 
 		final CascadingFetchProfile enabledCascadingFetchProfile = loadQueryInfluencers.getEnabledCascadingFetchProfile();
@@ -149,8 +167,44 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 			return plan;
 		}
 
+		return resolveInfluencedLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+	}
+
+	/**
+	 * Resolves a plan for a load affected by filters, fetch profiles, an entity
+	 * graph or lock options other than the lock mode, from a bounded cache keyed
+	 * by all of these.
+	 */
+	private SingleIdLoadPlan<T> resolveInfluencedLoadPlan(
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		final LoadPlanKey key = LoadPlanKey.from( lockOptions, loadQueryInfluencers );
+		if ( key == null ) {
+			nonReusablePlansGenerated.incrementAndGet();
+			return createLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+		}
+
+		BoundedConcurrentHashMap<LoadPlanKey, SingleIdLoadPlan<T>> plans = selectByInfluencers;
+		if ( plans == null ) {
+			synchronized ( this ) {
+				plans = selectByInfluencers;
+				if ( plans == null ) {
+					plans = new BoundedConcurrentHashMap<>( MAX_INFLUENCED_PLANS, 1 );
+					selectByInfluencers = plans;
+				}
+			}
+		}
+
+		final SingleIdLoadPlan<T> existing = plans.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+
 		nonReusablePlansGenerated.incrementAndGet();
-		return createLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+		final SingleIdLoadPlan<T> plan = createLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+		plans.put( key, plan );
+		return plan;
 	}
 
 	private boolean determineIfReusable(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
@@ -199,4 +253,100 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 				sessionFactory
 		);
 	}
+
+	/**
+	 * Identifies the influencers of a load which affect its SQL AST, including
+	 * the values bound to the parameters of the enabled filters, since these are
+	 * captured by the AST.
+	 */
+	private static final class LoadPlanKey {
+		private final LockOptions lockOptions;
+		private final CascadingFetchProfile cascadingFetchProfile;
+		private final Set<String> fetchProfileNames;
+		private final Map<String, Map<String, ?>> filterParameters;
+		private final RootGraphImplementor<?> graph;
+		private final GraphSemantic graphSemantic;
+		private final int hashCode;
+
+		private LoadPlanKey(
+				LockOptions lockOptions,
+				CascadingFetchProfile cascadingFetchProfile,
+				Set<String> fetchProfileNames,
+				Map<String, Map<String, ?>> filterParameters,
+				RootGraphImplementor<?> graph,
+				GraphSemantic graphSemantic) {
+			this.lockOptions = lockOptions;
+			this.cascadingFetchProfile = cascadingFetchProfile;
+			this.fetchProfileNames = fetchProfileNames;
+			this.filterParameters = filterParameters;
+			this.graph = graph;
+			this.graphSemantic = graphSemantic;
+			this.hashCode = Objects.hash(
+					lockOptions,
+					cascadingFetchProfile,
+					fetchProfileNames,
+					filterParameters,
+					graph,
+					graphSemantic
+			);
+		}
+
+		/**
+		 * @return the key, or {@code null} if the load may not be cached
+		 */
+		static LoadPlanKey from(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
+			final EffectiveEntityGraph effectiveEntityGraph = loadQueryInfluencers.getEffectiveEntityGraph();
+			final RootGraphImplementor<?> graph = effectiveEntityGraph.getGraph();
+			if ( graph != null && graph.isMutable() ) {
+				// graphs are keyed by identity, so the graph must not change
+				return null;
+			}
+
+			final Map<String, Map<String, ?>> filterParameters;
+			if ( loadQueryInfluencers.hasEnabledFilters() ) {
+				filterParameters = new HashMap<>();
+				for ( Filter filter : loadQueryInfluencers.getEnabledFilters().values() ) {
+					filterParameters.put( filter.getName(), new HashMap<>( ( (FilterImpl) filter ).getParameters() ) );
+				}
+			}
+			else {
+				filterParameters = null;
+			}
+
+			final Set<String> fetchProfileNames = loadQueryInfluencers.hasEnabledFetchProfiles()
+					? new HashSet<>( loadQueryInfluencers.getEnabledFetchProfileNames() )
+					: null;
+
+			return new LoadPlanKey(
+					lockOptions.makeCopy(),
+					loadQueryInfluencers.getEnabledCascadingFetchProfile(),
+					fetchProfileNames,
+					filterParameters,
+					graph,
+					graph == null ? null : effectiveEntityGraph.getSemantic()
+			);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final LoadPlanKey that = (LoadPlanKey) o;
+			return lockOptions.equals( that.lockOptions )
+					&& cascadingFetchProfile == that.cascadingFetchProfile
+					&& Objects.equals( fetchProfileNames, that.fetchProfileNames )
+					&& Objects.equals( filterParameters, that.filterParameters )
+					&& graph == that.graph
+					&& graphSemantic == that.graphSemantic;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
 }
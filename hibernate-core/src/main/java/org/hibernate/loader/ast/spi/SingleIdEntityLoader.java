@@ -36,4 +36,11 @@ public interface SingleIdEntityLoader<T> extends SingleEntityLoader<T> {
 	 * Load database snapshot by primary key value
 	 */
 	Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session);
+
+	/**
+	 * Record the number of proxies of the entity which were initialized within
+	 * one persistence context, for loaders which adapt their batch size to it.
+	 */
+	default void recordInitializedProxies(int initializedProxies) {
+	}
 }
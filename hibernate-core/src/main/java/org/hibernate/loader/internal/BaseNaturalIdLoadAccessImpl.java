@@ -169,6 +169,8 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 			return (T) getIdentifierLoadAccess().getReference( idFromDatabase );
 		}
 
+		persistenceContext.getNaturalIdResolutions()
+				.cacheNonExistenceFromLoad( normalizedNaturalIdValue, entityPersister() );
 		return null;
 	}
 
@@ -198,6 +200,10 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 			}
 			else {
 				loaded = (T) entityPersister().getNaturalIdLoader().load( normalizedNaturalIdValue, this, session );
+				if ( loaded == null ) {
+					persistenceContext.getNaturalIdResolutions()
+							.cacheNonExistenceFromLoad( normalizedNaturalIdValue, entityPersister() );
+				}
 			}
 
 			if ( loaded != null ) {
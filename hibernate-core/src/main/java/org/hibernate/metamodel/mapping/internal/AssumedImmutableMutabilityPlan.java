@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.metamodel.mapping.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+
+/**
+ * Mutability plan for the values of a mutable Java type which the application promised
+ * never to mutate in place, so that a hydrated value may be shared between the entity
+ * instance and the snapshot of its loaded state.
+ * <p>
+ * Disassembly and assembly are still delegated to the mutability plan of the Java type,
+ * since the second-level cache must never share instances with entities.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ASSUME_IMMUTABLE_JAVA_TYPES
+ */
+public class AssumedImmutableMutabilityPlan<T> implements MutabilityPlan<T> {
+	private final MutabilityPlan<T> delegate;
+
+	public AssumedImmutableMutabilityPlan(MutabilityPlan<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean isMutable() {
+		return delegate.isMutable();
+	}
+
+	@Override
+	public T deepCopy(T value) {
+		return value;
+	}
+
+	@Override
+	public Serializable disassemble(T value, SharedSessionContract session) {
+		return delegate.disassemble( value, session );
+	}
+
+	@Override
+	public T assemble(Serializable cached, SharedSessionContract session) {
+		return delegate.assemble( cached, session );
+	}
+}
@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 
@@ -172,6 +173,21 @@ public class MappingModelCreationHelper {
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Non-identifier attributes
 
+	private static MutabilityPlan<?> resolveMutabilityPlan(
+			BasicValue.Resolution<?> resolution,
+			MappingModelCreationProcess creationProcess) {
+		final MutabilityPlan<?> mutabilityPlan = resolution.getMutabilityPlan();
+		if ( mutabilityPlan.isMutable() ) {
+			final Set<String> assumedImmutableJavaTypes =
+					creationProcess.getCreationContext().getSessionFactoryOptions().getAssumedImmutableJavaTypes();
+			if ( !assumedImmutableJavaTypes.isEmpty()
+					&& assumedImmutableJavaTypes.contains( resolution.getDomainJavaType().getJavaTypeClass().getTypeName() ) ) {
+				return new AssumedImmutableMutabilityPlan<>( mutabilityPlan );
+			}
+		}
+		return mutabilityPlan;
+	}
+
 	@SuppressWarnings("rawtypes")
 	public static BasicAttributeMapping buildBasicAttributeMapping(
 			String attrName,
@@ -199,7 +215,12 @@ public class MappingModelCreationHelper {
 			MappingModelCreationProcess creationProcess) {
 		final SimpleValue value = (SimpleValue) bootProperty.getValue();
 		final BasicValue.Resolution<?> resolution = ( (Resolvable) value ).resolve();
-		final SimpleAttributeMetadata attributeMetadata = new SimpleAttributeMetadata( propertyAccess, resolution.getMutabilityPlan(), bootProperty, value );
+		final SimpleAttributeMetadata attributeMetadata = new SimpleAttributeMetadata(
+				propertyAccess,
+				resolveMutabilityPlan( resolution, creationProcess ),
+				bootProperty,
+				value
+		);
 
 		final FetchTiming fetchTiming;
 		final FetchStyle fetchStyle;
@@ -43,6 +43,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.profile.Fetch;
 import org.hibernate.engine.profile.FetchProfile;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -251,6 +252,7 @@ public abstract class AbstractCollectionPersister
 
 	private CollectionLoader collectionLoader;
 	private volatile CollectionLoader standardCollectionLoader;
+	private volatile CollectionLoaderBatchKey standardOwnerKeysCollectionLoader;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -756,21 +758,25 @@ public abstract class AbstractCollectionPersister
 	}
 
 	private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContractImplementor session) {
-		if ( !isSubselectLoadable() ) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		if ( !isSubselectLoadable() && !batchFetchQueue.hasSubselects() ) {
 			return null;
 		}
 
-		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-
 		final EntityKey ownerEntityKey = session.generateEntityKey( key, getOwnerEntityPersister() );
-		final SubselectFetch subselect = persistenceContext.getBatchFetchQueue().getSubselect( ownerEntityKey );
-		if ( subselect == null ) {
+		final SubselectFetch subselect = batchFetchQueue.getSubselect( ownerEntityKey );
+		if ( subselect == null || !isSubselectLoadable() && !subselect.isAppliedToAllCollections() ) {
 			return null;
 		}
 
-		// Take care of any entities that might have
-		// been evicted!
-		subselect.getResultingEntityKeys().removeIf( o -> !persistenceContext.containsEntity( o ) );
+		if ( !subselect.isRestrictedByOwnerKeys() ) {
+			// Take care of any entities that might have
+			// been evicted!
+			// (the keys of a fetch restricted by owner keys are pruned
+			// on eviction instead, since it may grow with a scroll)
+			subselect.getResultingEntityKeys().removeIf( o -> !persistenceContext.containsEntity( o ) );
+		}
 
 		// Run a subquery loader
 		return createSubSelectLoader( subselect, session );
@@ -782,10 +788,34 @@ public abstract class AbstractCollectionPersister
 				attributeMapping,
 				(DomainResult<?>) null,
 				subselect,
+				subselect.isRestrictedByOwnerKeys() ? resolveOwnerKeysCollectionLoader( session ) : null,
 				session
 		);
 	}
 
+	private CollectionLoaderBatchKey resolveOwnerKeysCollectionLoader(SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( influencers.hasEnabledFilters() || isAffectedByEnabledFetchProfiles( influencers ) ) {
+			return CollectionLoaderSubSelectFetch.createOwnerKeysLoader( attributeMapping, influencers, getFactory() );
+		}
+
+		CollectionLoaderBatchKey localCopy = standardOwnerKeysCollectionLoader;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = standardOwnerKeysCollectionLoader;
+				if ( localCopy == null ) {
+					localCopy = CollectionLoaderSubSelectFetch.createOwnerKeysLoader(
+							attributeMapping,
+							LoadQueryInfluencers.NONE,
+							getFactory()
+					);
+					standardOwnerKeysCollectionLoader = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
 	protected CollectionLoader createCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
 		final int batchSize = getBatchSize();
 		if ( batchSize > 1 ) {
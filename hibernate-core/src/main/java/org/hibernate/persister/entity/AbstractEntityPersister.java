@@ -3517,6 +3517,11 @@ public abstract class AbstractEntityPersister
 		return singleIdEntityLoader;
 	}
 
+	@Override
+	public void recordInitializedProxies(int initializedProxies) {
+		singleIdEntityLoader.recordInitializedProxies( initializedProxies );
+	}
+
 	@Override
 	public Object initializeEnhancedEntityUsedAsProxy(
 			Object entity,
@@ -515,6 +515,15 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	boolean hasLazyProperties();
 
+	/**
+	 * Record the number of proxies of this entity which were initialized within
+	 * one persistence context, for persisters which adapt their batch size to it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	default void recordInitializedProxies(int initializedProxies) {
+	}
+
 	default NaturalIdLoader<?> getNaturalIdLoader() {
 		throw new UnsupportedOperationException(
 				"EntityPersister implementation '" + getClass().getName()
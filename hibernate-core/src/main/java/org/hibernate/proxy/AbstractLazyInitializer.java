@@ -173,6 +173,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 					target = session.immediateLoad( entityName, id );
 					initialized = true;
 					checkTargetState( session );
+					session.getPersistenceContextInternal().getBatchFetchQueue().recordProxyInitialization( entityName );
 				}
 			}
 			finally {
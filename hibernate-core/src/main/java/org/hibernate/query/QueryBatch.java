@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * Within the context of an active {@linkplain org.hibernate.Session session},
+ * an instance of this type represents a batch of independent
+ * {@linkplain SelectionQuery selection queries} to be executed together.
+ * <p>
+ * A {@code QueryBatch} may be obtained from the {@link org.hibernate.Session}
+ * by calling {@link org.hibernate.Session#createQueryBatch()}.
+ * <p>
+ * When the {@linkplain org.hibernate.dialect.Dialect#supportsMultiStatementSelects()
+ * dialect supports it}, the SQL selects of the queries are sent to the database as
+ * a single multi-statement, in one round trip. Otherwise, the queries are executed
+ * one after the other. Either way, the results are assembled into the persistence
+ * context of the session, exactly as if each query had been executed by itself.
+ * <pre>
+ * QueryBatch batch = session.createQueryBatch()
+ *         .add( bookQuery )
+ *         .add( authorQuery );
+ * List&lt;Book&gt; books = batch.getResultList( bookQuery );
+ * List&lt;Author&gt; authors = batch.getResultList( authorQuery );
+ * </pre>
+ * <p>
+ * The queries of a batch are executed when the results are first requested.
+ * Their parameter arguments and options must be set before that.
+ * <p>
+ * A query which cannot be executed as part of a multi-statement, for example,
+ * because it is a native query, because it acquires pessimistic locks, or
+ * because its results are paginated in memory, is executed by itself.
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface QueryBatch {
+
+	/**
+	 * Add the given query to this batch.
+	 *
+	 * @throws IllegalStateException if the batch was already executed
+	 * @throws IllegalArgumentException if the query was already added to this batch
+	 */
+	QueryBatch add(SelectionQuery<?> query);
+
+	/**
+	 * Execute the queries of this batch, if they were not executed yet,
+	 * and return the results of each query, in the order in which they
+	 * were added.
+	 */
+	List<List<?>> getResultLists();
+
+	/**
+	 * Execute the queries of this batch, if they were not executed yet,
+	 * and return the results of the given query.
+	 *
+	 * @throws IllegalArgumentException if the query does not belong to this batch
+	 */
+	<R> List<R> getResultList(SelectionQuery<R> query);
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} which evicts the read-only entities of
+ * the previously returned result from the persistence context when the
+ * iteration advances, so that the persistence context does not grow with
+ * the number of results. Only entities loaded by the iteration itself are
+ * evicted, never instances which were already managed by the session.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_EVICT_READ_ONLY
+ *
+ * @since 6.3
+ */
+public class EvictingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SessionImplementor session;
+	private final Set<Object> loadedEntities;
+	private Object previous;
+
+	/**
+	 * @param loadedEntities The entities loaded by the iteration, as recorded
+	 * by its {@link StreamExecutionContext}
+	 */
+	public EvictingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SessionImplementor session,
+			Set<Object> loadedEntities) {
+		super( scrollableResults );
+		this.session = session;
+		this.loadedEntities = loadedEntities;
+	}
+
+	@Override
+	public boolean hasNext() {
+		evictPrevious();
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T next = super.next();
+		previous = next;
+		return next;
+	}
+
+	private void evictPrevious() {
+		final Object result = previous;
+		if ( result != null ) {
+			previous = null;
+			if ( session.isOpen() ) {
+				if ( result instanceof Object[] ) {
+					for ( Object element : (Object[]) result ) {
+						evictIfReadOnly( element );
+					}
+				}
+				else {
+					evictIfReadOnly( result );
+				}
+			}
+		}
+		// entities loaded but not evicted stay managed, like in any query
+		loadedEntities.clear();
+	}
+
+	private void evictIfReadOnly(Object result) {
+		if ( result != null && loadedEntities.contains( result ) ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityEntry entry = persistenceContext.getEntry( result );
+			if ( entry != null && entry.isReadOnly() ) {
+				session.evict( result );
+			}
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.QueryBatch;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.AbstractSelectionQuery;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorPipelinedImpl;
+
+/**
+ * Standard implementation of {@link QueryBatch}.
+ * <p>
+ * When the dialect supports multi-statement selects, each query is first
+ * executed against a {@link JdbcSelectExecutorPipelinedImpl}, which merely
+ * collects its translated SQL, and then all the collected selects are
+ * executed at once.
+ */
+public class QueryBatchImpl implements QueryBatch {
+	private final SharedSessionContractImplementor session;
+	private final List<SelectionQuery<?>> queries = new ArrayList<>();
+
+	private List<List<?>> resultLists;
+
+	public QueryBatchImpl(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	@Override
+	public QueryBatch add(SelectionQuery<?> query) {
+		if ( resultLists != null ) {
+			throw new IllegalStateException( "Query batch was already executed" );
+		}
+		if ( queries.contains( query ) ) {
+			throw new IllegalArgumentException( "Query was already added to the batch" );
+		}
+		queries.add( query );
+		return this;
+	}
+
+	@Override
+	public List<List<?>> getResultLists() {
+		if ( resultLists == null ) {
+			resultLists = Collections.unmodifiableList( execute() );
+		}
+		return resultLists;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <R> List<R> getResultList(SelectionQuery<R> query) {
+		final List<List<?>> results = getResultLists();
+		for ( int i = 0; i < queries.size(); i++ ) {
+			if ( queries.get( i ) == query ) {
+				return (List<R>) results.get( i );
+			}
+		}
+		throw new IllegalArgumentException( "Query does not belong to the batch" );
+	}
+
+	private List<List<?>> execute() {
+		final List<List<?>> results = new ArrayList<>( queries.size() );
+		if ( queries.size() > 1 && session.getJdbcServices().getDialect().supportsMultiStatementSelects() ) {
+			final JdbcSelectExecutorPipelinedImpl executor = new JdbcSelectExecutorPipelinedImpl( session );
+			final List<AbstractSelectionQuery<?>> preparedQueries = new ArrayList<>( queries.size() );
+			boolean success = false;
+			try {
+				for ( SelectionQuery<?> query : queries ) {
+					if ( query instanceof AbstractSelectionQuery ) {
+						final AbstractSelectionQuery<?> selectionQuery = (AbstractSelectionQuery<?>) query;
+						results.add( selectionQuery.prepareList( executor ) );
+						preparedQueries.add( selectionQuery );
+					}
+					else {
+						results.add( query.list() );
+					}
+				}
+				try {
+					executor.execute();
+				}
+				catch (HibernateException e) {
+					throw session.getExceptionConverter().convert( e );
+				}
+				success = true;
+			}
+			finally {
+				// each query restores the state of the session it found, so
+				// they are completed in the reverse order they were prepared
+				for ( int i = preparedQueries.size() - 1; i >= 0; i-- ) {
+					preparedQueries.get( i ).completeList( success );
+				}
+			}
+		}
+		else {
+			for ( SelectionQuery<?> query : queries ) {
+				results.add( query.list() );
+			}
+		}
+		return results;
+	}
+}
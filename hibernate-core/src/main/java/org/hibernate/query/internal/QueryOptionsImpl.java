@@ -40,6 +40,8 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
+	private Boolean parallelAssemblyEnabled;
+	private Boolean splitCollectionFetchEnabled;
 
 	private TupleTransformer tupleTransformer;
 	private ResultListTransformer resultListTransformer;
@@ -145,6 +147,26 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.resultCachingEnabled = resultCachingEnabled;
 	}
 
+	@Override
+	public Boolean isParallelAssemblyEnabled() {
+		return parallelAssemblyEnabled;
+	}
+
+	@Override
+	public void setParallelAssemblyEnabled(boolean parallelAssemblyEnabled) {
+		this.parallelAssemblyEnabled = parallelAssemblyEnabled;
+	}
+
+	@Override
+	public Boolean isSplitCollectionFetchEnabled() {
+		return splitCollectionFetchEnabled;
+	}
+
+	@Override
+	public void setSplitCollectionFetchEnabled(boolean splitCollectionFetchEnabled) {
+		this.splitCollectionFetchEnabled = splitCollectionFetchEnabled;
+	}
+
 	@Override
 	public String getResultCacheRegionName() {
 		return resultCacheRegionName;
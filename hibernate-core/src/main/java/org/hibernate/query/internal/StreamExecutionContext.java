@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.Set;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.loader.ast.spi.AfterLoadAction;
+import org.hibernate.persister.entity.Loadable;
+import org.hibernate.query.spi.DelegatingQueryOptions;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.exec.spi.Callback;
+
+/**
+ * The execution context of a streamed query. It applies a fetch size to
+ * this execution only, and records the entities loaded by the stream,
+ * leaving the options of the query itself untouched.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_FETCH_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_EVICT_READ_ONLY
+ *
+ * @since 6.3
+ */
+public class StreamExecutionContext extends DelegatingDomainQueryExecutionContext {
+	private final QueryOptions queryOptions;
+	private final Set<Object> loadedEntities;
+	private final Callback callback;
+
+	/**
+	 * @param delegate The query being streamed
+	 * @param fetchSize The fetch size to apply, or {@code null} to use the one of the query
+	 * @param recordLoadedEntities Whether the entities loaded by the stream should be recorded
+	 */
+	public StreamExecutionContext(DomainQueryExecutionContext delegate, Integer fetchSize, boolean recordLoadedEntities) {
+		super( delegate );
+		this.queryOptions = fetchSize == null
+				? null
+				: new DelegatingQueryOptions( delegate.getQueryOptions() ) {
+					@Override
+					public Integer getFetchSize() {
+						return fetchSize;
+					}
+				};
+		this.loadedEntities = recordLoadedEntities ? new IdentitySet<>() : null;
+		this.callback = recordLoadedEntities ? new RecordingCallback() : null;
+	}
+
+	/**
+	 * The entities loaded by the stream since this set was last cleared,
+	 * or {@code null} if they are not recorded.
+	 */
+	public Set<Object> getLoadedEntities() {
+		return loadedEntities;
+	}
+
+	@Override
+	public QueryOptions getQueryOptions() {
+		return queryOptions == null ? super.getQueryOptions() : queryOptions;
+	}
+
+	@Override
+	public Callback getCallback() {
+		return callback == null ? super.getCallback() : callback;
+	}
+
+	private class RecordingCallback implements Callback {
+		@Override
+		public void registerAfterLoadAction(AfterLoadAction afterLoadAction) {
+			StreamExecutionContext.super.getCallback().registerAfterLoadAction( afterLoadAction );
+		}
+
+		@Override
+		public void invokeAfterLoadActions(SharedSessionContractImplementor session, Object entity, Loadable persister) {
+			loadedEntities.add( entity );
+			StreamExecutionContext.super.getCallback().invokeAfterLoadActions( session, entity, persister );
+		}
+	}
+}
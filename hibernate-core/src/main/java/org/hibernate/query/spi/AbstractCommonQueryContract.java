@@ -71,6 +71,8 @@ import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_PARALLEL_ASSEMBLY;
+import static org.hibernate.jpa.HibernateHints.HINT_SPLIT_COLLECTION_FETCH;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -179,6 +181,8 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 
 		putIfNotNull( hints, HINT_READONLY, getQueryOptions().isReadOnly() );
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
+		putIfNotNull( hints, HINT_PARALLEL_ASSEMBLY, getQueryOptions().isParallelAssemblyEnabled() );
+		putIfNotNull( hints, HINT_SPLIT_COLLECTION_FETCH, getQueryOptions().isSplitCollectionFetchEnabled() );
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
@@ -299,6 +303,12 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_FETCH_SIZE:
 					applyFetchSizeHint( getInteger( value ) );
 					return true;
+				case HINT_PARALLEL_ASSEMBLY:
+					applyParallelAssemblyHint( getBoolean( value ) );
+					return true;
+				case HINT_SPLIT_COLLECTION_FETCH:
+					applySplitCollectionFetchHint( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					applyCacheableHint( getBoolean( value ) );
 					return true;
@@ -343,6 +353,14 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setFetchSize( fetchSize );
 	}
 
+	protected void applyParallelAssemblyHint(boolean parallelAssemblyEnabled) {
+		getQueryOptions().setParallelAssemblyEnabled( parallelAssemblyEnabled );
+	}
+
+	protected void applySplitCollectionFetchHint(boolean splitCollectionFetchEnabled) {
+		getQueryOptions().setSplitCollectionFetchEnabled( splitCollectionFetchEnabled );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
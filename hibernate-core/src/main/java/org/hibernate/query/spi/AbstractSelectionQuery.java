@@ -39,6 +39,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -51,7 +52,9 @@ import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.EvictingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.internal.StreamExecutionContext;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.SqmPathSource;
@@ -66,6 +69,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -382,6 +386,55 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	/**
+	 * Prepare the execution of the query, passing its SQL to the given {@link JdbcSelectExecutor},
+	 * which may defer its execution. In that case, the returned list is populated once the executor
+	 * executes the SQL.
+	 * <p>
+	 * Unless an exception is thrown, the state of the session set up for the query, such as its
+	 * flush and cache modes, is kept until {@link #completeList(boolean)} is called, after the
+	 * executor executed the SQL.
+	 *
+	 * @see org.hibernate.query.QueryBatch
+	 *
+	 * @since 6.3
+	 */
+	public List<R> prepareList(JdbcSelectExecutor jdbcSelectExecutor) {
+		beforeQuery();
+		boolean success = false;
+		try {
+			final List<R> result = doList( jdbcSelectExecutor );
+			success = true;
+			return result;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			if ( !success ) {
+				afterQuery( false );
+			}
+		}
+	}
+
+	/**
+	 * Restore the state of the session set up by {@link #prepareList(JdbcSelectExecutor)}, once
+	 * the executor executed the SQL of the query.
+	 *
+	 * @param success Whether the SQL was successfully executed
+	 *
+	 * @since 6.3
+	 */
+	public void completeList(boolean success) {
+		afterQuery( success );
+	}
+
 	protected void beforeQuery() {
 		getQueryParameterBindings().validate();
 
@@ -427,6 +480,14 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract List<R> doList();
 
+	/**
+	 * Execute the query, passing its SQL to the given {@link JdbcSelectExecutor}, if possible.
+	 * By default, the query is executed immediately, ignoring the given executor.
+	 */
+	protected List<R> doList(JdbcSelectExecutor jdbcSelectExecutor) {
+		return doList();
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> scroll() {
 		return scroll( getSession().getFactory().getJdbcServices().getJdbcEnvironment().getDialect().defaultScrollMode() );
@@ -439,11 +500,42 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	/**
+	 * Scroll the results, executing the query within the given execution context,
+	 * which wraps this query. By default, the given context is ignored.
+	 */
+	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return doScroll( scrollMode );
+	}
+
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final SessionFactoryOptions options = getSession().getFactory().getSessionFactoryOptions();
+		final Integer streamFetchSize = getFetchSize() == null && options.getQueryStreamFetchSize() > 0
+				? options.getQueryStreamFetchSize()
+				: null;
+		final boolean evictReadOnly = options.isQueryStreamEvictReadOnlyEnabled() && getSession().isSessionImplementor();
+
+		final ScrollableResultsImplementor scrollableResults;
+		final ScrollableResultsIterator iterator;
+		if ( streamFetchSize == null && !evictReadOnly ) {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+			iterator = new ScrollableResultsIterator<>( scrollableResults );
+		}
+		else {
+			// the stream settings apply to this execution only, not to the query
+			final StreamExecutionContext executionContext =
+					new StreamExecutionContext( this, streamFetchSize, evictReadOnly );
+			scrollableResults = doScroll( ScrollMode.FORWARD_ONLY, executionContext );
+			iterator = evictReadOnly
+					? new EvictingScrollableResultsIterator<>(
+							scrollableResults,
+							getSession().asSessionImplementor(),
+							executionContext.getLoadedEntities()
+					)
+					: new ScrollableResultsIterator<>( scrollableResults );
+		}
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
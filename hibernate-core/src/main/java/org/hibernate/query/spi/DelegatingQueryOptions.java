@@ -133,4 +133,14 @@ public class DelegatingQueryOptions implements QueryOptions {
 	public ListResultsConsumer.UniqueSemantic getUniqueSemantic() {
 		return queryOptions.getUniqueSemantic();
 	}
+
+	@Override
+	public Boolean isParallelAssemblyEnabled() {
+		return queryOptions.isParallelAssemblyEnabled();
+	}
+
+	@Override
+	public Boolean isSplitCollectionFetchEnabled() {
+		return queryOptions.isSplitCollectionFetchEnabled();
+	}
 }
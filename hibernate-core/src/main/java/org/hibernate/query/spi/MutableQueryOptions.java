@@ -74,6 +74,16 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setReadOnly(boolean readOnly);
 
+	/**
+	 * Corollary to {@link #isParallelAssemblyEnabled()}
+	 */
+	void setParallelAssemblyEnabled(boolean parallelAssemblyEnabled);
+
+	/**
+	 * Corollary to {@link #isSplitCollectionFetchEnabled()}
+	 */
+	void setSplitCollectionFetchEnabled(boolean splitCollectionFetchEnabled);
+
 	/**
 	 * Corollary to {@link #getComment()}
 	 */
@@ -176,6 +176,32 @@ public interface QueryOptions {
 		return null;
 	}
 
+	/**
+	 * Should the results of the query be assembled concurrently?
+	 * Only has an effect on scalar and tuple results which do not
+	 * involve the persistence context, converters, or dynamic
+	 * instantiation.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_PARALLEL_ASSEMBLY
+	 *
+	 * @since 6.3
+	 */
+	default Boolean isParallelAssemblyEnabled() {
+		return null;
+	}
+
+	/**
+	 * Should collections fetched because of an entity graph or fetch
+	 * profile be loaded by secondary selects instead of being joined?
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_SPLIT_COLLECTION_FETCH
+	 *
+	 * @since 6.3
+	 */
+	default Boolean isSplitCollectionFetchEnabled() {
+		return null;
+	}
+
 	/**
 	 * Provide singleton access for frequently needed options:
 	 */
@@ -11,6 +11,7 @@ import java.util.List;
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.Query;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 
 /**
  * General contract for performing execution of a query returning results.  These
@@ -37,6 +38,19 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	List<R> performList(DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning a List, executing its SQL with the
+	 * given {@link JdbcSelectExecutor}, which might defer the execution.
+	 * <p>
+	 * Plans which do not produce a single SQL select may ignore the given
+	 * executor, and execute the query immediately.
+	 *
+	 * @since 6.3
+	 */
+	default List<R> performList(DomainQueryExecutionContext executionContext, JdbcSelectExecutor jdbcSelectExecutor) {
+		return performList( executionContext );
+	}
+
 	/**
 	 * Perform (execute) the query returning a ScrollableResults
 	 */
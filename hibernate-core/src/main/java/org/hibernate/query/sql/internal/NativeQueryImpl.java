@@ -821,7 +821,12 @@ public class NativeQueryImpl<R>
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
-		return resolveSelectQueryPlan().performScroll( scrollMode, this );
+		return doScroll( scrollMode, this );
+	}
+
+	@Override
+	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return resolveSelectQueryPlan().performScroll( scrollMode, executionContext );
 	}
 
 	protected int doExecuteUpdate() {
@@ -18,6 +18,8 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.graph.spi.AttributeNodeImplementor;
 import org.hibernate.graph.spi.GraphImplementor;
@@ -73,7 +75,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
-	private final SqmInterpreter<List<R>, Void> listInterpreter;
+	private final SqmInterpreter<List<R>, JdbcSelectExecutor> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
@@ -97,20 +99,35 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		else {
 			uniqueSemantic = ListResultsConsumer.UniqueSemantic.ALLOW;
 		}
-		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+		this.listInterpreter = (jdbcSelectExecutor, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
 			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
+				if ( executionContext.getQueryOptions().isSplitCollectionFetchEnabled() == Boolean.TRUE ) {
+					subSelectFetchKeyHandler = SubselectFetch.createSplitCollectionFetchRegistrationHandler(
+							session.getPersistenceContext().getBatchFetchQueue(),
+							sqmInterpretation.selectStatement,
+							Collections.emptyList(),
+							jdbcParameterBindings
+					);
+				}
+				else {
+					subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+							session.getPersistenceContext().getBatchFetchQueue(),
+							sqmInterpretation.selectStatement,
+							Collections.emptyList(),
+							jdbcParameterBindings,
+							isPaginated( executionContext, sqmInterpretation.selectStatement )
+					);
+				}
 
 				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				final JdbcSelectExecutor executor = jdbcSelectExecutor == null
+						? session.getFactory().getJdbcServices().getJdbcSelectExecutor()
+						: jdbcSelectExecutor;
+				return executor.list(
 						jdbcSelect,
 						jdbcParameterBindings,
 						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
@@ -125,12 +142,26 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
+				// only part of the owners may ever be read from scrolled results,
+				// so the collections are fetched by the keys of the owners read so far
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
+				if ( executionContext.getQueryOptions().isSplitCollectionFetchEnabled() == Boolean.TRUE ) {
+					subSelectFetchKeyHandler = SubselectFetch.createSplitCollectionFetchRegistrationHandler(
+							executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+							sqmInterpretation.selectStatement,
+							Collections.emptyList(),
+							jdbcParameterBindings
+					);
+				}
+				else {
+					subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+							executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+							sqmInterpretation.selectStatement,
+							Collections.emptyList(),
+							jdbcParameterBindings,
+							true
+					);
+				}
 
 				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
 						.getFactory()
@@ -140,7 +171,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 						sqmInterpretation.getJdbcSelect(),
 						scrollMode,
 						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+						listInterpreterExecutionContext( hql, executionContext, sqmInterpretation.jdbcSelect, subSelectFetchKeyHandler ),
 						rowTransformer
 				);
 			}
@@ -169,6 +200,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return new MySqmJdbcExecutionContextAdapter( executionContext, jdbcSelect, subSelectFetchKeyHandler, hql );
 	}
 
+	private static boolean isPaginated(DomainQueryExecutionContext executionContext, SelectStatement selectStatement) {
+		return executionContext.getQueryOptions().hasLimit()
+				|| selectStatement.getQueryPart().hasOffsetOrFetchClause();
+	}
+
 	private static boolean containsCollectionFetches(QueryOptions queryOptions) {
 		final AppliedGraph appliedGraph = queryOptions.getAppliedGraph();
 		return appliedGraph != null && appliedGraph.getGraph() != null && containsCollectionFetches( appliedGraph.getGraph() );
@@ -260,10 +296,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	@Override
 	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return performList( executionContext, null );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext, JdbcSelectExecutor jdbcSelectExecutor) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
 			return Collections.emptyList();
 		}
-		return withCacheableSqmInterpretation( executionContext, null, listInterpreter );
+		return withCacheableSqmInterpretation( executionContext, jdbcSelectExecutor, listInterpreter );
 	}
 
 	@Override
@@ -351,6 +392,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent queryTranslationEvent = eventManager.beginQueryTranslationEvent();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 
@@ -395,6 +438,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				session
 		);
 		final JdbcOperationQuerySelect jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		eventManager.completeQueryTranslationEvent( queryTranslationEvent, jdbcSelect.getSqlString() );
 
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
@@ -30,6 +30,8 @@ import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.generator.Generator;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
@@ -97,6 +99,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.update.SqmAssignment;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
@@ -506,6 +509,11 @@ public class QuerySqmImpl<R>
 	}
 
 	protected List<R> doList() {
+		return doList( (JdbcSelectExecutor) null );
+	}
+
+	@Override
+	protected List<R> doList(JdbcSelectExecutor jdbcSelectExecutor) {
 		verifySelect();
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
@@ -515,8 +523,19 @@ public class QuerySqmImpl<R>
 		final boolean needsDistinct = containsCollectionFetches
 				&& ( sqmStatement.usesDistinct() || hasAppliedGraph( getQueryOptions() ) || hasLimit );
 
-		final List<R> list = resolveSelectQueryPlan()
-				.performList( executionContextFordoList( containsCollectionFetches, hasLimit, needsDistinct ) );
+		final List<R> list;
+		final EventManager eventManager = getSession().getEventManager();
+		final HibernateMonitoringEvent queryExecutionEvent = eventManager.beginQueryExecutionEvent();
+		try {
+			// results needing distinction are processed in memory, and so can't be deferred
+			list = resolveSelectQueryPlan().performList(
+					executionContextFordoList( containsCollectionFetches, hasLimit, needsDistinct ),
+					needsDistinct ? null : jdbcSelectExecutor
+			);
+		}
+		finally {
+			eventManager.completeQueryExecutionEvent( queryExecutionEvent, getSession(), hql );
+		}
 
 		if ( needsDistinct ) {
 			final int first = !hasLimit || getQueryOptions().getLimit().getFirstRow() == null
@@ -624,8 +643,20 @@ public class QuerySqmImpl<R>
 
 	@Override
 	protected ScrollableResultsImplementor doScroll(ScrollMode scrollMode) {
+		return doScroll( scrollMode, this );
+	}
+
+	@Override
+	protected ScrollableResultsImplementor doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
-		return resolveSelectQueryPlan().performScroll( scrollMode, this );
+		final EventManager eventManager = getSession().getEventManager();
+		final HibernateMonitoringEvent queryExecutionEvent = eventManager.beginQueryExecutionEvent();
+		try {
+			return resolveSelectQueryPlan().performScroll( scrollMode, executionContext );
+		}
+		finally {
+			eventManager.completeQueryExecutionEvent( queryExecutionEvent, getSession(), hql );
+		}
 	}
 
 
@@ -731,7 +762,14 @@ public class QuerySqmImpl<R>
 
 	protected int doExecuteUpdate() {
 		getSession().prepareForQueryExecution( true );
-		return resolveNonSelectQueryPlan().executeUpdate( this );
+		final EventManager eventManager = getSession().getEventManager();
+		final HibernateMonitoringEvent queryExecutionEvent = eventManager.beginQueryExecutionEvent();
+		try {
+			return resolveNonSelectQueryPlan().executeUpdate( this );
+		}
+		finally {
+			eventManager.completeQueryExecutionEvent( queryExecutionEvent, getSession(), hql );
+		}
 	}
 
 	private NonSelectQueryPlan resolveNonSelectQueryPlan() {
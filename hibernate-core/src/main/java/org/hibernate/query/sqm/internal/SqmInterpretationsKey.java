@@ -61,6 +61,12 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return false;
 		}
 
+		if ( keySource.getQueryOptions().isSplitCollectionFetchEnabled() == TRUE ) {
+			// The collection fetches are interpreted differently,
+			// but the hint is not part of the key
+			return false;
+		}
+
 		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
 			// At the moment we cannot cache query plan if there is an
 			// EntityGraph enabled.
@@ -61,6 +61,7 @@ import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.results.internal.TupleMetadata;
 
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
@@ -256,6 +257,11 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	}
 
 	protected List<R> doList() {
+		return doList( (JdbcSelectExecutor) null );
+	}
+
+	@Override
+	protected List<R> doList(JdbcSelectExecutor jdbcSelectExecutor) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
 		final SqmSelectStatement<?> sqmStatement = (SqmSelectStatement<?>) getSqmStatement();
@@ -296,7 +302,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 			executionContextToUse = this;
 		}
 
-		final List<R> list = resolveQueryPlan().performList( executionContextToUse );
+		// results needing distinction are processed in memory, and so can't be deferred
+		final List<R> list = resolveQueryPlan()
+				.performList( executionContextToUse, needsDistinct ? null : jdbcSelectExecutor );
 
 		if ( needsDistinct ) {
 			int includedCount = -1;
@@ -330,9 +338,14 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
+		return doScroll( scrollMode, this );
+	}
+
+	@Override
+	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
-		return resolveQueryPlan().performScroll( scrollMode, this );
+		return resolveQueryPlan().performScroll( scrollMode, executionContext );
 	}
 
 
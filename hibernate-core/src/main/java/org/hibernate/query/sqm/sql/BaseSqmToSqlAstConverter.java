@@ -382,6 +382,7 @@ import org.hibernate.sql.results.graph.Fetch;
 import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.graph.Fetchable;
 import org.hibernate.sql.results.graph.FetchableContainer;
+import org.hibernate.sql.results.graph.entity.EntityResult;
 import org.hibernate.sql.results.graph.entity.EntityResultGraphNode;
 import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiation;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
@@ -7274,6 +7275,15 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				}
 			}
 
+			// collections of the root results fetched because of an entity graph or
+			// fetch profile may be loaded by secondary selects keyed by the owners
+			// read by this query, only these owners are registered for such selects
+			if ( joined && fetchable instanceof PluralAttributeMapping
+					&& fetchParent instanceof EntityResult
+					&& queryOptions.isSplitCollectionFetchEnabled() == Boolean.TRUE ) {
+				joined = false;
+			}
+
 			if ( joined && fetchable instanceof TableGroupJoinProducer ) {
 				fromClauseIndex.resolveTableGroup(
 						fetchablePath,
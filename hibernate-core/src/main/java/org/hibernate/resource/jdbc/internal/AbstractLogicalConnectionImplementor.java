@@ -23,7 +23,7 @@ import org.jboss.logging.Logger;
 public abstract class AbstractLogicalConnectionImplementor implements LogicalConnectionImplementor, PhysicalJdbcTransaction {
 	private static final Logger log = Logger.getLogger( AbstractLogicalConnectionImplementor.class );
 
-	private TransactionStatus status = TransactionStatus.NOT_ACTIVE;
+	protected TransactionStatus status = TransactionStatus.NOT_ACTIVE;
 	protected ResourceRegistry resourceRegistry;
 
 	@Override
@@ -16,10 +16,12 @@ import org.hibernate.ResourceClosedException;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.internal.ReadReplicaJdbcConnectionAccess;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.transaction.spi.TransactionStatus;
 
 import org.jboss.logging.Logger;
 
@@ -50,6 +52,14 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private boolean closed;
 
 	private final boolean providerDisablesAutoCommit;
+	private final boolean deferTransactionBegin;
+
+	/**
+	 * Whether a transaction was begun, but not yet on the JDBC connection
+	 */
+	private transient boolean transactionBeginPending;
+
+	private final transient PreparedStatementCache statementCache;
 
 	public LogicalConnectionManagedImpl(
 			JdbcConnectionAccess jdbcConnectionAccess,
@@ -66,11 +76,14 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		this.statementCache = createStatementCache( jdbcSessionContext, resourceRegistry );
+
 		if ( connectionHandlingMode.getAcquisitionMode() == IMMEDIATELY ) {
 			acquireConnectionIfNeeded();
 		}
 
 		this.providerDisablesAutoCommit = jdbcSessionContext.doesConnectionProviderDisableAutoCommit();
+		this.deferTransactionBegin = jdbcSessionContext.isTransactionBeginDeferred();
 		if ( providerDisablesAutoCommit ) {
 			log.debug(
 					"`hibernate.connection.provider_disables_autocommit` was enabled.  This setting should only be " +
@@ -82,6 +95,28 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 	}
 
+	private static PreparedStatementCache createStatementCache(
+			JdbcSessionContext jdbcSessionContext,
+			ResourceRegistry resourceRegistry) {
+		final int statementCacheSize = jdbcSessionContext.getStatementCacheSize();
+		if ( statementCacheSize <= 0 || !( resourceRegistry instanceof ResourceRegistryStandardImpl ) ) {
+			return null;
+		}
+		final PreparedStatementCache statementCache = new PreparedStatementCache( statementCacheSize );
+		( (ResourceRegistryStandardImpl) resourceRegistry ).setStatementCache( statementCache );
+		return statementCache;
+	}
+
+	/**
+	 * The cache of prepared statements of the physical connection, or {@code null}
+	 * if statements are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	public PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	private PhysicalConnectionHandlingMode determineConnectionHandlingMode(
 			PhysicalConnectionHandlingMode connectionHandlingMode,
 			JdbcConnectionAccess jdbcConnectionAccess) {
@@ -118,6 +153,11 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			finally {
 				observer.jdbcConnectionAcquisitionEnd( physicalConnection );
 			}
+			if ( transactionBeginPending ) {
+				transactionBeginPending = false;
+				log.debug( "Beginning deferred JDBC transaction on the acquired JDBC Connection" );
+				beginPhysicalTransaction();
+			}
 		}
 		return physicalConnection;
 	}
@@ -181,6 +221,21 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 	}
 
+	/**
+	 * Release the held connection if it was obtained from a read replica, so that
+	 * the next statement, which might write to the database, or lock rows, acquires
+	 * a connection to the primary database.
+	 *
+	 * @see ReadReplicaJdbcConnectionAccess
+	 */
+	public void releaseReadReplicaConnection() {
+		if ( jdbcConnectionAccess instanceof ReadReplicaJdbcConnectionAccess
+				&& ( (ReadReplicaJdbcConnectionAccess) jdbcConnectionAccess ).isReadReplicaConnection( physicalConnection ) ) {
+			log.debug( "Releasing JDBC Connection to the read replica" );
+			releaseConnection();
+		}
+	}
+
 	@Override
 	public Connection manualDisconnect() {
 		if ( closed ) {
@@ -216,6 +271,10 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				if ( statementCache != null ) {
+					// the statements belong to the released connection
+					statementCache.clear();
+				}
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
@@ -252,6 +311,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 
 		getResourceRegistry().releaseResources();
+		transactionBeginPending = false;
 
 		log.trace( "Closing logical connection" );
 		try {
@@ -277,11 +337,49 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 	@Override
 	public void begin() {
+		releaseReadReplicaConnection();
+		if ( deferTransactionBegin && physicalConnection == null ) {
+			log.trace( "Deferring JDBC transaction begin until a JDBC Connection is acquired" );
+			transactionBeginPending = true;
+			status = TransactionStatus.ACTIVE;
+		}
+		else {
+			beginPhysicalTransaction();
+		}
+	}
+
+	private void beginPhysicalTransaction() {
 		initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled()
 				&& determineInitialAutoCommitMode( getConnectionForTransactionManagement() );
 		super.begin();
 	}
 
+	@Override
+	public void commit() {
+		if ( transactionBeginPending ) {
+			log.trace( "No JDBC transaction to commit, since no JDBC Connection was acquired" );
+			transactionBeginPending = false;
+			status = TransactionStatus.COMMITTED;
+			afterCompletion();
+		}
+		else {
+			super.commit();
+		}
+	}
+
+	@Override
+	public void rollback() {
+		if ( transactionBeginPending ) {
+			log.trace( "No JDBC transaction to roll back, since no JDBC Connection was acquired" );
+			transactionBeginPending = false;
+			status = TransactionStatus.ROLLED_BACK;
+			afterCompletion();
+		}
+		else {
+			super.rollback();
+		}
+	}
+
 	@Override
 	protected void afterCompletion() {
 		resetConnection( initiallyAutoCommit );
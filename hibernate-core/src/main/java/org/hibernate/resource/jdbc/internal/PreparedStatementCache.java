@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A bounded, least-recently-used cache of the open {@link PreparedStatement}s
+ * of a physical JDBC connection, for drivers which do not cache statements
+ * themselves.
+ * <p>
+ * A statement {@linkplain #take taken} from the cache, or newly prepared and
+ * {@linkplain #markInUse marked as in use}, is returned to the cache when it
+ * is {@linkplain #release released}, after its parameters and the options set
+ * on it while in use were reset. The cached statements are closed when the
+ * connection is released.
+ * <p>
+ * Like the logical connection owning it, this class is not thread-safe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, CachedStatement> idleStatements;
+	private final IdentityHashMap<Statement, CachedStatement> statementsInUse = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * The number of statements currently cached and not in use
+	 */
+	public int getIdleCount() {
+		return idleStatements.size();
+	}
+
+	/**
+	 * Takes an idle statement for the given key out of the cache, and marks it
+	 * as in use.
+	 *
+	 * @return the statement, or {@code null} if no idle statement is cached
+	 */
+	public PreparedStatement take(Key key) {
+		final CachedStatement cached = idleStatements.remove( key );
+		if ( cached == null ) {
+			return null;
+		}
+		statementsInUse.put( cached.statement, cached );
+		return cached.statement;
+	}
+
+	/**
+	 * Marks a newly prepared statement as in use, so that it is cached
+	 * when released.
+	 */
+	public void markInUse(Key key, PreparedStatement statement) throws SQLException {
+		statementsInUse.put( statement, new CachedStatement( key, statement, statement.getFetchSize() ) );
+	}
+
+	/**
+	 * Returns a statement which is no longer in use to the cache.
+	 *
+	 * @return {@code true} if the statement was cached, {@code false} if
+	 *         it is not managed by this cache and should be closed
+	 */
+	public boolean release(Statement statement) {
+		final CachedStatement cached = statementsInUse.remove( statement );
+		if ( cached == null ) {
+			return false;
+		}
+
+		if ( idleStatements.containsKey( cached.key ) || !cached.reset() ) {
+			// the same statement was prepared more than once, or
+			// resetting it failed, so it is not worth keeping
+			ResourceRegistryStandardImpl.close( statement );
+			return true;
+		}
+
+		idleStatements.put( cached.key, cached );
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<CachedStatement> iterator = idleStatements.values().iterator();
+			final CachedStatement eldest = iterator.next();
+			iterator.remove();
+			ResourceRegistryStandardImpl.close( eldest.statement );
+		}
+		return true;
+	}
+
+	/**
+	 * Forgets the statements in use, which were closed by the resource registry
+	 */
+	public void clearInUse() {
+		statementsInUse.clear();
+	}
+
+	/**
+	 * Closes the idle statements, when the physical connection is released
+	 */
+	public void clear() {
+		statementsInUse.clear();
+		for ( CachedStatement cached : idleStatements.values() ) {
+			ResourceRegistryStandardImpl.close( cached.statement );
+		}
+		idleStatements.clear();
+	}
+
+	/**
+	 * Identifies statements which may be used interchangeably
+	 */
+	public static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final int hashCode;
+
+		public Key(String sql, int resultSetType, int autoGeneratedKeys) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.hashCode = Objects.hash( sql, resultSetType, autoGeneratedKeys );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return resultSetType == that.resultSetType
+					&& autoGeneratedKeys == that.autoGeneratedKeys
+					&& sql.equals( that.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class CachedStatement {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int defaultFetchSize;
+
+		private CachedStatement(Key key, PreparedStatement statement, int defaultFetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.defaultFetchSize = defaultFetchSize;
+		}
+
+		/**
+		 * Resets the parameters and options which might have been set while
+		 * the statement was in use
+		 */
+		private boolean reset() {
+			try {
+				statement.clearParameters();
+				statement.clearWarnings();
+				if ( statement.getMaxRows() != 0 ) {
+					statement.setMaxRows( 0 );
+				}
+				if ( statement.getQueryTimeout() != 0 ) {
+					statement.setQueryTimeout( 0 );
+				}
+				if ( statement.getFetchSize() != defaultFetchSize ) {
+					statement.setFetchSize( defaultFetchSize );
+				}
+				return true;
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to reset cached JDBC statement [%s]", e.getMessage() );
+				return false;
+			}
+		}
+	}
+}
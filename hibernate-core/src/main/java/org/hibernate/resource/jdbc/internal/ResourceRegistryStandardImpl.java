@@ -60,6 +60,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private PreparedStatementCache statementCache;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
@@ -68,6 +70,14 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		this.jdbcObserver = jdbcObserver;
 	}
 
+	/**
+	 * Sets the cache to which released statements are returned, instead of
+	 * being closed
+	 */
+	void setStatementCache(PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
 	@Override
 	public boolean hasRegisteredResources() {
 		return hasRegistered( xref )
@@ -105,7 +115,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -334,6 +346,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
+		if ( statementCache != null ) {
+			statementCache.clearInUse();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -44,6 +44,20 @@ public interface JdbcSessionContext {
 	 */
 	boolean doesConnectionProviderDisableAutoCommit();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#DEFER_TRANSACTION_BEGIN
+	 */
+	default boolean isTransactionBeginDeferred() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#PREFER_USER_TRANSACTION
 	 */
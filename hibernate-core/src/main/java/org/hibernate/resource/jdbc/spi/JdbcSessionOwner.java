@@ -6,7 +6,10 @@
  */
 package org.hibernate.resource.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 
 /**
@@ -69,4 +72,15 @@ public interface JdbcSessionOwner {
 	 * @since 5.2
 	 */
 	Integer getJdbcBatchSize();
+
+	/**
+	 * Obtain the {@link EventManager} which emits the monitoring events of
+	 * the JDBC operations of this owner.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default EventManager getEventManager() {
+		return EmptyEventManager.INSTANCE;
+	}
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.tree.predicate;
+
+import org.hibernate.sql.ast.SqlAstWalker;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+
+/**
+ * Restriction of a single-column expression to the elements of an array
+ * bound as a single JDBC parameter, e.g. {@code col = any(?)}.
+ * <p>
+ * Unlike {@link InListPredicate}, the rendered SQL does not depend on the
+ * number of values, so the statement can be reused for any number of keys.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsStandardArrays()
+ */
+public class InArrayPredicate extends AbstractPredicate {
+	private final Expression testExpression;
+	private final JdbcParameter arrayParameter;
+
+	public InArrayPredicate(Expression testExpression, JdbcParameter arrayParameter) {
+		super( testExpression.getExpressionType() );
+		this.testExpression = testExpression;
+		this.arrayParameter = arrayParameter;
+	}
+
+	public Expression getTestExpression() {
+		return testExpression;
+	}
+
+	public JdbcParameter getArrayParameter() {
+		return arrayParameter;
+	}
+
+	@Override
+	public void accept(SqlAstWalker sqlTreeWalker) {
+		sqlTreeWalker.visitInArrayPredicate( this );
+	}
+}
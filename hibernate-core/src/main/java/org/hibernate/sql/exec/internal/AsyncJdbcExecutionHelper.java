@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.spi.AsyncJdbcOperationExecutor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcLockStrategy;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Support for assembling the raw rows obtained from an {@link AsyncJdbcOperationExecutor}
+ * into domain results, using the same {@link org.hibernate.sql.results.spi.RowReader}
+ * pipeline as {@link JdbcSelectExecutorStandardImpl}.
+ */
+public final class AsyncJdbcExecutionHelper {
+	private AsyncJdbcExecutionHelper() {
+	}
+
+	/**
+	 * Execute the given select using the given executor, and assemble its results
+	 * into a list, exactly as {@link JdbcSelectExecutorStandardImpl#list} would.
+	 * <p>
+	 * The results are assembled by the thread which completes the stage returned
+	 * by {@link AsyncJdbcOperationExecutor#executeQuery}.
+	 */
+	public static <R> CompletionStage<List<R>> list(
+			AsyncJdbcOperationExecutor executor,
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> requestedJavaType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		final LockOptions lockOptions = checkExecutable( jdbcSelect, executionContext );
+		final JdbcValuesMapping jdbcValuesMapping = resolveJdbcValuesMapping( jdbcSelect, executionContext );
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean stats = executionContext.hasQueryExecutionToBeAddedToStatistics()
+				&& statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+		return executor.executeQuery( jdbcSelect, jdbcParameterBindings, jdbcValuesMapping, executionContext )
+				.thenApply( rows -> {
+					final LogicalConnectionImplementor logicalConnection =
+							session.getJdbcCoordinator().getLogicalConnection();
+					final PersistenceContext persistenceContext = session.getPersistenceContext();
+					final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+					final QueryOptions queryOptions = executionContext.getQueryOptions();
+					final Boolean readOnly = queryOptions == null ? null : queryOptions.isReadOnly();
+					if ( readOnly != null ) {
+						// The read-only/modifiable mode for the query was explicitly set.
+						// Temporarily set the default read-only/modifiable setting to the query's setting.
+						persistenceContext.setDefaultReadOnly( readOnly );
+					}
+					final List<R> results;
+					try {
+						results = JdbcSelectExecutorStandardImpl.INSTANCE.consumeResults(
+								new JdbcValuesCacheHit( rows, jdbcValuesMapping ),
+								executionContext,
+								lockOptions,
+								rowTransformer,
+								requestedJavaType,
+								ListResultsConsumer.instance( uniqueSemantic )
+						);
+					}
+					finally {
+						if ( readOnly != null ) {
+							persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+						}
+						executionContext.afterStatement( logicalConnection );
+					}
+					if ( stats ) {
+						final long milliseconds =
+								TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS );
+						statistics.queryExecuted(
+								executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+								results.size(),
+								milliseconds
+						);
+					}
+					return results;
+				} );
+	}
+
+	/**
+	 * Resolve the {@link JdbcValuesMapping} of the given select before it is executed,
+	 * that is, without access to the metadata of its results.
+	 */
+	public static JdbcValuesMapping resolveJdbcValuesMapping(
+			JdbcOperationQuerySelect jdbcSelect,
+			ExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		return jdbcSelect.getJdbcValuesMappingProducer().resolve( UnavailableJdbcValuesMetadata.INSTANCE, factory );
+	}
+
+	private static LockOptions checkExecutable(JdbcOperationQuerySelect jdbcSelect, ExecutionContext executionContext) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions == null ) {
+			return LockOptions.NONE;
+		}
+		if ( jdbcSelect.getMaxRows() != Integer.MAX_VALUE
+				|| !jdbcSelect.usesLimitParameters() && queryOptions.hasLimit() ) {
+			throw new UnsupportedOperationException(
+					"Asynchronous execution of a select with a limit which is not rendered in the SQL is not supported"
+			);
+		}
+		final LockOptions lockOptions = queryOptions.getLockOptions();
+		if ( jdbcSelect.getLockStrategy() == JdbcLockStrategy.FOLLOW_ON
+				&& lockOptions != null && !lockOptions.isEmpty() ) {
+			throw new UnsupportedOperationException(
+					"Asynchronous execution of a select with follow-on locking is not supported"
+			);
+		}
+		return lockOptions;
+	}
+
+	/**
+	 * The results of an asynchronously executed select are not available when
+	 * its {@link JdbcValuesMapping} is resolved, and so selections which are typed
+	 * by the JDBC metadata, for example, the results of a native query without an
+	 * explicit result type, are not supported.
+	 */
+	private static class UnavailableJdbcValuesMetadata implements JdbcValuesMetadata {
+		private static final UnavailableJdbcValuesMetadata INSTANCE = new UnavailableJdbcValuesMetadata();
+
+		@Override
+		public int getColumnCount() {
+			throw unavailable();
+		}
+
+		@Override
+		public int resolveColumnPosition(String columnName) {
+			throw unavailable();
+		}
+
+		@Override
+		public String resolveColumnName(int position) {
+			throw unavailable();
+		}
+
+		@Override
+		public <J> BasicType<J> resolveType(
+				int position,
+				JavaType<J> explicitJavaType,
+				TypeConfiguration typeConfiguration) {
+			throw unavailable();
+		}
+
+		private static UnsupportedOperationException unavailable() {
+			return new UnsupportedOperationException(
+					"Result set metadata is not available for asynchronous execution"
+			);
+		}
+	}
+}
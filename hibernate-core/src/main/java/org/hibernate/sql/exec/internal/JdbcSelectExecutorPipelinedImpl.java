@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
+import org.hibernate.ScrollMode;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcLockStrategy;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.jdbc.internal.PipelinedResultSetAccess;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * A {@link JdbcSelectExecutor} which defers the execution of the selects it is given
+ * until {@link #execute()} is called, and then executes them as a single multi-statement
+ * {@link PreparedStatement}, in one round trip to the database.
+ * <p>
+ * The list returned by {@link #list} is empty until the selects are executed, and is
+ * then populated with the results.
+ * <p>
+ * A select which requires statement-level options, such as a maximum number of rows,
+ * which acquires locks, or whose results might be read from the query cache, is executed
+ * by itself.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsMultiStatementSelects()
+ * @see org.hibernate.query.QueryBatch
+ */
+public class JdbcSelectExecutorPipelinedImpl implements JdbcSelectExecutor {
+	private final SharedSessionContractImplementor session;
+	private final List<PendingSelect<?>> pendingSelects = new ArrayList<>();
+
+	public JdbcSelectExecutorPipelinedImpl(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	@Override
+	public <R> List<R> list(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> requestedJavaType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		final PendingSelect<R> pendingSelect = new PendingSelect<>(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				requestedJavaType,
+				uniqueSemantic
+		);
+		pendingSelects.add( pendingSelect );
+		return pendingSelect.results;
+	}
+
+	@Override
+	public <R> ScrollableResultsImplementor<R> scroll(
+			JdbcOperationQuerySelect jdbcSelect,
+			ScrollMode scrollMode,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer) {
+		throw new UnsupportedOperationException( "Scrolling is not supported for pipelined selects" );
+	}
+
+	@Override
+	public <R> Stream<R> stream(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer) {
+		throw new UnsupportedOperationException( "Streaming is not supported for pipelined selects" );
+	}
+
+	/**
+	 * Execute the pending selects, and populate the lists returned by {@link #list}.
+	 */
+	public void execute() {
+		final List<PendingSelect<?>> pipelinedSelects = new ArrayList<>( pendingSelects.size() );
+		final List<PendingSelect<?>> standaloneSelects = new ArrayList<>();
+		for ( PendingSelect<?> pendingSelect : pendingSelects ) {
+			if ( pendingSelect.preparePipelined() ) {
+				pipelinedSelects.add( pendingSelect );
+			}
+			else {
+				standaloneSelects.add( pendingSelect );
+			}
+		}
+		pendingSelects.clear();
+
+		if ( pipelinedSelects.size() == 1 ) {
+			pipelinedSelects.get( 0 ).executeStandalone();
+		}
+		else if ( !pipelinedSelects.isEmpty() ) {
+			executePipelined( pipelinedSelects );
+		}
+		for ( PendingSelect<?> standaloneSelect : standaloneSelects ) {
+			standaloneSelect.executeStandalone();
+		}
+	}
+
+	private void executePipelined(List<PendingSelect<?>> selects) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+
+		final StringBuilder sqlBuilder = new StringBuilder();
+		Integer timeout = null;
+		for ( PendingSelect<?> select : selects ) {
+			if ( sqlBuilder.length() > 0 ) {
+				sqlBuilder.append( ";\n" );
+			}
+			sqlBuilder.append( select.resultSetAccess.getFinalSql() );
+			final Integer selectTimeout = select.executionContext.getQueryOptions().getTimeout();
+			if ( selectTimeout != null && ( timeout == null || selectTimeout < timeout ) ) {
+				timeout = selectTimeout;
+			}
+		}
+		final String sql = sqlBuilder.toString();
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			if ( timeout != null ) {
+				statement.setQueryTimeout( timeout );
+			}
+			int position = 1;
+			for ( PendingSelect<?> select : selects ) {
+				position = select.resultSetAccess.bindParameterValues( statement, position );
+			}
+
+			ResultSet resultSet = jdbcCoordinator.getResultSetReturn().execute( statement, sql );
+			for ( int i = 0; i < selects.size(); i++ ) {
+				if ( i > 0 ) {
+					if ( !statement.getMoreResults() ) {
+						throw new HibernateException(
+								"Multi-statement select returned fewer result sets than expected [" + sql + "]"
+						);
+					}
+					resultSet = statement.getResultSet();
+					resourceRegistry.register( resultSet, statement );
+				}
+				final PendingSelect<?> select = selects.get( i );
+				select.resultSetAccess.setResultSet( resultSet );
+				select.readResults();
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"JDBC exception executing multi-statement select",
+					sql
+			);
+		}
+		finally {
+			resourceRegistry.release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private class PendingSelect<R> {
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final ExecutionContext executionContext;
+		private final RowTransformer<R> rowTransformer;
+		private final Class<R> requestedJavaType;
+		private final ListResultsConsumer.UniqueSemantic uniqueSemantic;
+		// the cache mode the query set on the session, which may since
+		// have been changed by the other queries of the pipeline
+		private final CacheMode cacheMode;
+		private final List<R> results = new ArrayList<>();
+
+		private PipelinedResultSetAccess resultSetAccess;
+
+		private PendingSelect(
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer,
+				Class<R> requestedJavaType,
+				ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.executionContext = executionContext;
+			this.rowTransformer = rowTransformer;
+			this.requestedJavaType = requestedJavaType;
+			this.uniqueSemantic = uniqueSemantic;
+			this.cacheMode = session.getCacheMode();
+		}
+
+		private boolean preparePipelined() {
+			final QueryOptions queryOptions = executionContext.getQueryOptions();
+			if ( queryOptions == null ) {
+				return false;
+			}
+			final LockOptions lockOptions = queryOptions.getLockOptions();
+			if ( jdbcSelect.getLockStrategy() != JdbcLockStrategy.NONE
+					&& lockOptions != null && !lockOptions.isEmpty() ) {
+				// locks might have to be acquired by follow-on locking,
+				// which is set up when the statement is executed
+				return false;
+			}
+			if ( queryOptions.getFetchSize() != null ) {
+				return false;
+			}
+			if ( queryOptions.isResultCachingEnabled() == Boolean.TRUE ) {
+				// the results might be read from the query cache,
+				// which is checked when the query is executed
+				return false;
+			}
+			resultSetAccess = new PipelinedResultSetAccess( jdbcSelect, jdbcParameterBindings, executionContext );
+			return resultSetAccess.isPipelinable();
+		}
+
+		private void readResults() {
+			final CacheMode sessionCacheMode = session.getCacheMode();
+			session.setCacheMode( cacheMode );
+			try {
+				results.addAll(
+						JdbcSelectExecutorStandardImpl.INSTANCE.list(
+								jdbcSelect,
+								jdbcParameterBindings,
+								executionContext,
+								rowTransformer,
+								requestedJavaType,
+								uniqueSemantic,
+								resultSetAccess
+						)
+				);
+			}
+			finally {
+				session.setCacheMode( sessionCacheMode );
+			}
+		}
+
+		private void executeStandalone() {
+			final CacheMode sessionCacheMode = session.getCacheMode();
+			session.setCacheMode( cacheMode );
+			try {
+				results.addAll(
+						session.getJdbcServices().getJdbcSelectExecutor().list(
+								jdbcSelect,
+								jdbcParameterBindings,
+								executionContext,
+								rowTransformer,
+								requestedJavaType,
+								uniqueSemantic
+						)
+				);
+			}
+			finally {
+				session.setCacheMode( sessionCacheMode );
+			}
+		}
+	}
+}
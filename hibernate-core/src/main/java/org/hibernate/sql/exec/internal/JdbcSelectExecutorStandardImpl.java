@@ -26,6 +26,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.ResultListTransformer;
@@ -96,10 +98,38 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext,
 				rowTransformer,
 				domainResultType,
-				(sql) -> executionContext.getSession()
-						.getJdbcCoordinator()
-						.getStatementPreparer()
-						.prepareStatement( sql ),
+				new DeferredResultSetAccess(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						(sql) -> executionContext.getSession()
+								.getJdbcCoordinator()
+								.getStatementPreparer()
+								.prepareStatement( sql )
+				),
+				ListResultsConsumer.instance( uniqueSemantic )
+		);
+	}
+
+	/**
+	 * Read the results of the given select through the given {@link DeferredResultSetAccess},
+	 * which might provide the result set of a statement executed by another party.
+	 */
+	public <R> List<R> list(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic,
+			DeferredResultSetAccess resultSetAccess) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultSetAccess,
 				ListResultsConsumer.instance( uniqueSemantic )
 		);
 	}
@@ -154,7 +184,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Class<R> domainResultType,
-			Function<String, PreparedStatement> statementCreator,
+			DeferredResultSetAccess deferredResultSetAccess,
 			ResultsConsumer<T, R> resultsConsumer) {
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
@@ -171,7 +201,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					executionContext,
 					rowTransformer,
 					domainResultType,
-					statementCreator,
+					deferredResultSetAccess,
 					resultsConsumer
 			);
 		}
@@ -190,13 +220,15 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
+		final ExecutionContext scrollContext =
+				getScrollContext( executionContext, executionContext.getSession().getPersistenceContext() );
 		return doExecuteQuery(
 				jdbcSelect,
 				jdbcParameterBindings,
-				getScrollContext( executionContext, executionContext.getSession().getPersistenceContext() ),
+				scrollContext,
 				rowTransformer,
 				domainResultType,
-				statementCreator,
+				new DeferredResultSetAccess( jdbcSelect, jdbcParameterBindings, scrollContext, statementCreator ),
 				resultsConsumer
 		);
 	}
@@ -255,15 +287,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Class<R> domainResultType,
-			Function<String, PreparedStatement> statementCreator,
+			DeferredResultSetAccess deferredResultSetAccess,
 			ResultsConsumer<T, R> resultsConsumer) {
 
-		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
-				jdbcSelect,
-				jdbcParameterBindings,
-				executionContext,
-				statementCreator
-		);
+		final EventManager eventManager = executionContext.getSession().getEventManager();
+		final HibernateMonitoringEvent jdbcSelectExecutionEvent = eventManager.beginJdbcSelectExecutionEvent();
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
@@ -272,6 +300,73 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				deferredResultSetAccess
 		);
 
+		final boolean stats;
+		long startTime = 0;
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
+				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
+			stats = statistics.isStatisticsEnabled();
+			if ( stats ) {
+				startTime = System.nanoTime();
+			}
+		}
+		else {
+			stats = false;
+		}
+
+		final T result;
+		try {
+			result = consumeResults(
+					jdbcValues,
+					executionContext,
+					// If follow-on locking is used, we must omit the lock options here,
+					// because these lock options are only for Initializers.
+					// If we wouldn't omit this, the follow-on lock requests would be no-ops,
+					// because the EntityEntrys would already have the desired lock mode
+					deferredResultSetAccess.usesFollowOnLocking()
+							? LockOptions.NONE
+							: executionContext.getQueryOptions().getLockOptions(),
+					rowTransformer,
+					domainResultType,
+					resultsConsumer
+			);
+		}
+		finally {
+			eventManager.completeJdbcSelectExecutionEvent(
+					jdbcSelectExecutionEvent,
+					executionContext.getSession(),
+					deferredResultSetAccess.getFinalSql()
+			);
+		}
+
+		if ( stats ) {
+			final long endTime = System.nanoTime();
+			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			statistics.queryExecuted(
+					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					getResultSize( result ),
+					milliseconds
+			);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Assemble the results of a select from the given {@link JdbcValues}, using
+	 * the {@link RowReader} built from its {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}.
+	 *
+	 * @param rowTransformer The row transformer, or {@code null} to use the
+	 *                       {@linkplain QueryOptions#getTupleTransformer() tuple transformer}
+	 *                       of the query, if any
+	 */
+	public <T, R> T consumeResults(
+			JdbcValues jdbcValues,
+			ExecutionContext executionContext,
+			LockOptions lockOptions,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer) {
 		if ( rowTransformer == null ) {
 			@SuppressWarnings("unchecked")
 			final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) executionContext
@@ -291,20 +386,6 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			}
 		}
 
-		final boolean stats;
-		long startTime = 0;
-		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
-		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
-				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
-			stats = statistics.isStatisticsEnabled();
-			if ( stats ) {
-				startTime = System.nanoTime();
-			}
-		}
-		else {
-			stats = false;
-		}
-
 		/*
 		 * Processing options effectively are only used for entity loading.  Here we don't need these values.
 		 */
@@ -338,13 +419,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		final RowReader<R> rowReader = ResultsHelper.createRowReader(
 				executionContext,
-				// If follow-on locking is used, we must omit the lock options here,
-				// because these lock options are only for Initializers.
-				// If we wouldn't omit this, the follow-on lock requests would be no-ops,
-				// because the EntityEntrys would already have the desired lock mode
-				deferredResultSetAccess.usesFollowOnLocking()
-						? LockOptions.NONE
-						: executionContext.getQueryOptions().getLockOptions(),
+				lockOptions,
 				rowTransformer,
 				domainResultType,
 				jdbcValues
@@ -357,7 +432,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				jdbcValues
 		);
 
-		final T result = resultsConsumer.consume(
+		return resultsConsumer.consume(
 				jdbcValues,
 				executionContext.getSession(),
 				processingOptions,
@@ -365,18 +440,6 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowProcessingState,
 				rowReader
 		);
-
-		if ( stats ) {
-			final long endTime = System.nanoTime();
-			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
-					getResultSize( result ),
-					milliseconds
-			);
-		}
-
-		return result;
 	}
 
 	private <T> int getResultSize(T result) {
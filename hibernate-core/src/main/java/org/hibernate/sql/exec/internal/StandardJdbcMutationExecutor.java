@@ -12,6 +12,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExecutionTracer;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -61,6 +62,8 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 			// prepare the query
 			final PreparedStatement preparedStatement = statementCreator.apply( finalSql );
 
+			final SqlExecutionTracer sqlExecutionTracer = jdbcServices.getSqlExecutionTracer();
+			final long bindStartNanos = sqlExecutionTracer.isEnabled() ? System.nanoTime() : 0;
 			try {
 				if ( executionContext.getQueryOptions().getTimeout() != null ) {
 					preparedStatement.setQueryTimeout( executionContext.getQueryOptions().getTimeout() );
@@ -78,9 +81,22 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
+				final long executeStartNanos = bindStartNanos == 0 ? 0 : System.nanoTime();
 				session.getEventListenerManager().jdbcExecuteStatementStart();
 				try {
 					int rows = preparedStatement.executeUpdate();
+					if ( executeStartNanos != 0 ) {
+						final String queryIdentifier = executionContext.getQueryIdentifier( finalSql );
+						sqlExecutionTracer.record(
+								finalSql,
+								finalSql.equals( queryIdentifier ) ? null : queryIdentifier,
+								executeStartNanos - bindStartNanos,
+								System.nanoTime() - executeStartNanos,
+								0,
+								rows,
+								0
+						);
+					}
 					expectationCheck.accept( rows, preparedStatement );
 					return rows;
 				}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The history of the number of rows returned by the executions of a
+ * {@link JdbcOperationQuerySelect}, from which its fetch size is derived
+ * when adaptive fetch sizing is enabled.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_MAX_SIZE
+ */
+public class AdaptiveFetchSize {
+	/**
+	 * The weight of the most recent observation in the decayed average
+	 */
+	private static final double ROW_COUNT_DECAY = 0.25;
+
+	private static final long NO_OBSERVATION = Double.doubleToLongBits( -1 );
+
+	// the decayed average of rows per execution, as double bits
+	private final AtomicLong observedRowCount = new AtomicLong( NO_OBSERVATION );
+
+	/**
+	 * Record the number of rows read by an execution of the select.
+	 */
+	public void recordRowCount(int rowCount) {
+		if ( rowCount < 0 ) {
+			return;
+		}
+		long current;
+		double average;
+		do {
+			current = observedRowCount.get();
+			average = current == NO_OBSERVATION
+					? rowCount
+					: Double.longBitsToDouble( current ) * ( 1 - ROW_COUNT_DECAY ) + rowCount * ROW_COUNT_DECAY;
+		} while ( !observedRowCount.compareAndSet( current, Double.doubleToLongBits( average ) ) );
+	}
+
+	/**
+	 * The fetch size to use for the next execution of the select, or
+	 * {@code null} if no execution was recorded yet.
+	 *
+	 * @param minSize The lower bound of the fetch size
+	 * @param maxSize The upper bound of the fetch size
+	 * @param maxRows The maximum number of rows requested for the execution,
+	 *                or {@code null} if there is no maximum
+	 */
+	public Integer getFetchSize(int minSize, int maxSize, Integer maxRows) {
+		final long current = observedRowCount.get();
+		if ( current == NO_OBSERVATION ) {
+			return null;
+		}
+		// one more row than expected, so that the end of
+		// the results is usually detected in one round trip
+		final long expectedRows = Math.round( Double.longBitsToDouble( current ) ) + 1;
+		int fetchSize = (int) Math.max( minSize, Math.min( maxSize, expectedRows ) );
+		if ( maxRows != null && maxRows > 0 && maxRows < fetchSize ) {
+			fetchSize = maxRows;
+		}
+		return fetchSize;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+
+/**
+ * A non-blocking executor for JDBC operations, the asynchronous counterpart of
+ * {@link JdbcSelectExecutor} and {@link JdbcMutationExecutor}.
+ * <p>
+ * An implementation executes the SQL of an operation using some asynchronous
+ * driver, and returns a {@link CompletionStage} of the raw results. For a select,
+ * the raw results are the rows returned by the database, where each row is an array
+ * of {@link JdbcValuesMapping#getRowSize()} JDBC values, and the value of each
+ * {@link org.hibernate.sql.ast.spi.SqlSelection} is found at its
+ * {@linkplain org.hibernate.sql.ast.spi.SqlSelection#getValuesArrayPosition() values array position}.
+ * These rows are then assembled into domain results by the usual
+ * {@link org.hibernate.sql.results.spi.RowReader} pipeline.
+ * <p>
+ * An implementation executes the {@linkplain JdbcOperationQuery#getSqlString() SQL}
+ * of the operation exactly as given, and binds the arguments of the
+ * {@linkplain JdbcOperationQuery#getParameterBinders() parameters} in order.
+ * A select which needs its SQL to be adapted when executed, for example, because
+ * its limit is applied by the {@link org.hibernate.dialect.pagination.LimitHandler},
+ * or because it uses follow-on locking, is not supported.
+ * <p>
+ * The session must not be used by the application until the returned stage
+ * completes.
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface AsyncJdbcOperationExecutor {
+	/**
+	 * Execute the given select, and obtain the rows of its results.
+	 *
+	 * @param jdbcValuesMapping The resolved mapping of the results, which determines
+	 *                          the layout of each row
+	 */
+	CompletionStage<Object[][]> executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			JdbcValuesMapping jdbcValuesMapping,
+			ExecutionContext executionContext);
+
+	/**
+	 * Execute the given mutation, and obtain the number of affected rows.
+	 */
+	CompletionStage<Integer> executeMutation(
+			JdbcOperationQueryMutation jdbcMutation,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext);
+}
@@ -29,6 +29,7 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcParameter offsetParameter;
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
+	private final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
 
 	public JdbcOperationQuerySelect(
 			String sql,
@@ -100,6 +101,16 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The row counts observed by the executions of this select, used
+	 * by adaptive fetch sizing.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_MAX_SIZE
+	 */
+	public AdaptiveFetchSize getAdaptiveFetchSize() {
+		return adaptiveFetchSize;
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
@@ -26,6 +26,8 @@ import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.event.spi.PreLoadEventListener;
 import org.hibernate.internal.util.StringHelper;
@@ -916,9 +918,12 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		}
 		else {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			boolean put = false;
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
 			try {
 				eventListenerManager.cachePutStart();
-				final boolean put = cacheAccess.putFromLoad(
+				put = cacheAccess.putFromLoad(
 						session,
 						cacheKey,
 						rootEntityDescriptor.getCacheEntryStructure().structure( cacheEntry ),
@@ -934,6 +939,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
+				eventManager.completeCachePutEvent( cachePutEvent, session, cacheAccess.getRegion(), put );
 			}
 		}
 	}
@@ -6,8 +6,7 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.util.List;
 
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
@@ -20,12 +19,17 @@ import org.hibernate.type.descriptor.java.JavaType;
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
-	private final Constructor<R> targetConstructor;
+	private final MethodHandle targetConstructor;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
 
+	/**
+	 * @param targetConstructor a handle of type {@code (Object[])Object}
+	 * spreading the arguments over the parameters of the constructor,
+	 * as created by {@link InstantiationHelper#spreadingConstructorHandle}
+	 */
 	public DynamicInstantiationAssemblerConstructorImpl(
-			Constructor<R> targetConstructor,
+			MethodHandle targetConstructor,
 			JavaType<R> resultType,
 			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
@@ -48,14 +52,17 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			args[i] = argumentReaders.get( i ).assemble( rowProcessingState, options );
 		}
 
+		final Object result;
 		try {
-			return targetConstructor.newInstance( args );
+			result = targetConstructor.invokeExact( args );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error performing dynamic instantiation : " + targetConstructor.getDeclaringClass().getName(), e.getCause() );
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error performing dynamic instantiation : " + targetConstructor.getDeclaringClass().getName(), e );
+		catch (Throwable e) {
+			throw new InstantiationException( "Error performing dynamic instantiation : " + resultType.getJavaTypeClass().getName(), e );
 		}
+		//noinspection unchecked
+		return (R) result;
 	}
 }
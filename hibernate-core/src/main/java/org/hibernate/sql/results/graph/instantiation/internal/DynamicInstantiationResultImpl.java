@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -37,6 +38,10 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 	private final JavaType<R> javaType;
 	private final List<ArgumentDomainResult<?>> argumentResults;
 
+	// the constructor matching the arguments is resolved by the first assembler,
+	// the result itself being cached along with the interpretation of the query
+	private volatile MethodHandle constructorHandle;
+
 	public DynamicInstantiationResultImpl(
 			String resultVariable,
 			DynamicInstantiationNature nature,
@@ -144,6 +149,15 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 			);
 		}
 		else {
+			final MethodHandle resolvedConstructorHandle = constructorHandle;
+			if ( resolvedConstructorHandle != null ) {
+				return new DynamicInstantiationAssemblerConstructorImpl<>(
+						resolvedConstructorHandle,
+						javaType,
+						argumentReaders
+				);
+			}
+
 			// find a constructor matching argument types
 			constructor_loop:
 			for ( Constructor<?> constructor : javaType.getJavaTypeClass().getDeclaredConstructors() ) {
@@ -178,9 +192,9 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 				}
 
 				constructor.setAccessible( true );
-				//noinspection rawtypes
-				return new DynamicInstantiationAssemblerConstructorImpl(
-						constructor,
+				constructorHandle = InstantiationHelper.spreadingConstructorHandle( constructor );
+				return new DynamicInstantiationAssemblerConstructorImpl<>(
+						constructorHandle,
 						javaType,
 						argumentReaders
 				);
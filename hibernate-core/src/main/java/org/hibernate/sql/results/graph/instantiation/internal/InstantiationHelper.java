@@ -6,6 +6,12 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+
+import org.hibernate.query.sqm.sql.internal.InstantiationException;
+
 /**
  * @author Steve Ebersole
  */
@@ -14,4 +20,26 @@ public class InstantiationHelper {
 	private InstantiationHelper() {
 		// disallow direct instantiation
 	}
+
+	/**
+	 * Create a handle of type {@code (Object[])Object} invoking the given
+	 * constructor with the elements of the array as its arguments, casting
+	 * and unboxing them as needed.
+	 *
+	 * @param constructor a constructor which has been made accessible
+	 */
+	public static MethodHandle spreadingConstructorHandle(Constructor<?> constructor) {
+		final MethodHandle handle;
+		try {
+			handle = MethodHandles.lookup().unreflectConstructor( constructor );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException(
+					"Could not access constructor for dynamic instantiation : " + constructor.getDeclaringClass().getName(),
+					e
+			);
+		}
+		return handle.asType( handle.type().generic() )
+				.asSpreader( Object[].class, constructor.getParameterCount() );
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.entity.EntityFetch;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+
+/**
+ * A {@link RowProcessingState} exposing the JDBC values of a row which was
+ * previously copied out of the {@link org.hibernate.sql.results.jdbc.spi.JdbcValues},
+ * allowing buffered rows to be assembled off the thread which read them.
+ * Everything else is delegated to the state of the actual row processing.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_PARALLEL_ASSEMBLY
+ */
+public class BufferedRowProcessingState implements RowProcessingState {
+	private final RowProcessingState delegate;
+	private Object[] row;
+
+	public BufferedRowProcessingState(RowProcessingState delegate) {
+		this.delegate = delegate;
+	}
+
+	public void setRow(Object[] row) {
+		this.row = row;
+	}
+
+	@Override
+	public Object getJdbcValue(int position) {
+		return row[position];
+	}
+
+	@Override
+	public JdbcValuesSourceProcessingState getJdbcValuesSourceProcessingState() {
+		return delegate.getJdbcValuesSourceProcessingState();
+	}
+
+	@Override
+	public RowReader<?> getRowReader() {
+		return delegate.getRowReader();
+	}
+
+	@Override
+	public void registerNonExists(EntityFetch fetch) {
+		delegate.registerNonExists( fetch );
+	}
+
+	@Override
+	public boolean isQueryCacheHit() {
+		return delegate.isQueryCacheHit();
+	}
+
+	@Override
+	public void finishRowProcessing() {
+	}
+
+	@Override
+	public Initializer resolveInitializer(NavigablePath path) {
+		return delegate.resolveInitializer( path );
+	}
+
+	@Override
+	public SharedSessionContractImplementor getSession() {
+		return delegate.getSession();
+	}
+
+	@Override
+	public QueryOptions getQueryOptions() {
+		return delegate.getQueryOptions();
+	}
+
+	@Override
+	public LoadQueryInfluencers getLoadQueryInfluencers() {
+		return delegate.getLoadQueryInfluencers();
+	}
+
+	@Override
+	public QueryParameterBindings getQueryParameterBindings() {
+		return delegate.getQueryParameterBindings();
+	}
+
+	@Override
+	public Callback getCallback() {
+		return delegate.getCallback();
+	}
+
+	@Override
+	public String getQueryIdentifier(String sql) {
+		return delegate.getQueryIdentifier( sql );
+	}
+}
@@ -47,6 +47,9 @@ public class SqlSelectionImpl implements SqlSelection, SqlExpressionAccess {
 	private final Expression sqlExpression;
 	private final JavaType<?> jdbcJavaType;
 
+	// resolved on first access, since the extractor is looked up for each row
+	private ValueExtractor<?> jdbcValueExtractor;
+
 	public SqlSelectionImpl(int jdbcPosition, int valuesArrayPosition, Expression sqlExpression) {
 		this( jdbcPosition, valuesArrayPosition, null, sqlExpression );
 	}
@@ -65,6 +68,14 @@ public class SqlSelectionImpl implements SqlSelection, SqlExpressionAccess {
 
 	@Override
 	public ValueExtractor getJdbcValueExtractor() {
+		ValueExtractor<?> extractor = jdbcValueExtractor;
+		if ( extractor == null ) {
+			extractor = jdbcValueExtractor = resolveJdbcValueExtractor();
+		}
+		return extractor;
+	}
+
+	private ValueExtractor<?> resolveJdbcValueExtractor() {
 		final JdbcMapping jdbcMapping = ( (SqlExpressible) sqlExpression.getExpressionType() ).getJdbcMapping();
 		if ( jdbcJavaType == null || jdbcMapping.getMappedJavaType() == jdbcJavaType ) {
 			return jdbcMapping.getJdbcValueExtractor();
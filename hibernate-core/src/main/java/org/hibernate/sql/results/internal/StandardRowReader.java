@@ -15,6 +15,7 @@ import org.hibernate.query.named.RowReaderMemento;
 import org.hibernate.sql.results.LoadingLogger;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -80,6 +81,25 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return initializers;
 	}
 
+	@Override
+	public boolean isParallelAssemblySupported() {
+		// without initializers nothing touches the persistence context,
+		// but a TupleTransformer is application code we know nothing about
+		if ( !initializers.isEmpty() || rowTransformer instanceof RowTransformerTupleTransformerAdapter ) {
+			return false;
+		}
+		// neither are AttributeConverters and the constructors of dynamic
+		// instantiations, which must not run on threads of a shared pool
+		for ( int i = 0; i < assemblerCount; i++ ) {
+			final DomainResultAssembler<?> assembler = resultAssemblers.get( i );
+			if ( !( assembler instanceof BasicResultAssembler )
+					|| ( (BasicResultAssembler<?>) assembler ).getValueConverter() != null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
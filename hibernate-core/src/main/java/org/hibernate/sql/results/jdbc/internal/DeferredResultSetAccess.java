@@ -14,22 +14,30 @@ import java.util.function.Function;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.SqlExecutionTracer;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.ReadReplicaJdbcConnectionAccess;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -44,6 +52,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final ExecutionContext executionContext;
 	private final Function<String, PreparedStatement> statementCreator;
 	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExecutionTracer sqlExecutionTracer;
 	private final String finalSql;
 	private final Limit limit;
 	private final LimitHandler limitHandler;
@@ -52,6 +61,10 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
 
+	private long bindNanos;
+	private long executeNanos;
+	private long executeEndNanos;
+
 	public DeferredResultSetAccess(
 			JdbcOperationQuerySelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
@@ -63,6 +76,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		this.jdbcSelect = jdbcSelect;
 		this.statementCreator = statementCreator;
 		this.sqlStatementLogger = executionContext.getSession().getJdbcServices().getSqlStatementLogger();
+		this.sqlExecutionTracer = executionContext.getSession().getJdbcServices().getSqlExecutionTracer();
 
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 		if ( queryOptions == null ) {
@@ -187,25 +201,20 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else {
+				applyAdaptiveFetchSize( preparedStatement );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
 		}
+		else {
+			applyAdaptiveFetchSize( preparedStatement );
+		}
 
 		// bind parameters
 		// 		todo : validate that all query parameters were bound?
-		int paramBindingPosition = 1;
-		paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery( limit, preparedStatement, paramBindingPosition );
-		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
-			parameterBinder.bindParameterValue(
-					preparedStatement,
-					paramBindingPosition++,
-					jdbcParameterBindings,
-					executionContext
-			);
-		}
-
-		paramBindingPosition += limitHandler.bindLimitParametersAtEndOfQuery( limit, preparedStatement, paramBindingPosition );
+		bindParameterValues( preparedStatement, 1 );
 
 		if ( !jdbcSelect.usesLimitParameters() && limit != null && limit.getMaxRows() != null ) {
 			limitHandler.setMaxRows( limit, preparedStatement );
@@ -218,21 +227,87 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private void applyAdaptiveFetchSize(PreparedStatement preparedStatement) throws SQLException {
+		final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+		final int maxSize = options.getAdaptiveFetchMaxSize();
+		if ( maxSize > 0 ) {
+			final Integer fetchSize = jdbcSelect.getAdaptiveFetchSize().getFetchSize(
+					Math.min( options.getAdaptiveFetchMinSize(), maxSize ),
+					maxSize,
+					getMaxRows()
+			);
+			if ( fetchSize != null ) {
+				preparedStatement.setFetchSize( fetchSize );
+			}
+		}
+	}
+
+	private Integer getMaxRows() {
+		if ( limit != null && limit.getMaxRows() != null ) {
+			return limit.getMaxRows();
+		}
+		final int maxRows = jdbcSelect.getMaxRows();
+		return maxRows == Integer.MAX_VALUE ? null : maxRows;
+	}
+
+	private void recordRowCount(int rowCount) {
+		final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+		final int maxSize = options.getAdaptiveFetchMaxSize();
+		if ( maxSize > 0 ) {
+			final AdaptiveFetchSize adaptiveFetchSize = jdbcSelect.getAdaptiveFetchSize();
+			adaptiveFetchSize.recordRowCount( rowCount );
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() && executionContext.hasQueryExecutionToBeAddedToStatistics() ) {
+				statistics.adaptiveFetchSize(
+						executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+						adaptiveFetchSize.getFetchSize(
+								Math.min( options.getAdaptiveFetchMinSize(), maxSize ),
+								maxSize,
+								null
+						)
+				);
+			}
+		}
+	}
+
+	/**
+	 * Bind the parameter values, including any limit parameters, starting at the given position.
+	 *
+	 * @return The position following the last bound parameter
+	 */
+	protected int bindParameterValues(PreparedStatement preparedStatement, int startPosition) throws SQLException {
+		int paramBindingPosition = startPosition;
+		paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery( limit, preparedStatement, paramBindingPosition );
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			parameterBinder.bindParameterValue(
+					preparedStatement,
+					paramBindingPosition++,
+					jdbcParameterBindings,
+					executionContext
+			);
+		}
+		paramBindingPosition += limitHandler.bindLimitParametersAtEndOfQuery( limit, preparedStatement, paramBindingPosition );
+		return paramBindingPosition;
+	}
+
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 
 		try {
 			LOG.tracef( "Executing query to retrieve ResultSet : %s", finalSql );
+			routeConnection( logicalConnection );
 			// prepare the query
 			preparedStatement = statementCreator.apply( finalSql );
 
+			final boolean trace = sqlExecutionTracer.isEnabled();
+			final long bindStartNanos = trace ? System.nanoTime() : 0;
 			bindParameters( preparedStatement );
 
 			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
 					.getEventListenerManager();
 
 			long executeStartNanos = 0;
-			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || trace ) {
 				executeStartNanos = System.nanoTime();
 			}
 			try {
@@ -243,6 +318,12 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				eventListenerManager.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
 			}
+			if ( trace ) {
+				// the execution is recorded when the results are released
+				executeEndNanos = System.nanoTime();
+				executeNanos = executeEndNanos - executeStartNanos;
+				bindNanos = executeStartNanos - bindStartNanos;
+			}
 
 			skipRows( resultSet );
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
@@ -259,6 +340,48 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private void routeConnection(LogicalConnectionImplementor logicalConnection) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcConnectionAccess connectionAccess = session.getJdbcConnectionAccess();
+		if ( connectionAccess instanceof ReadReplicaJdbcConnectionAccess ) {
+			if ( isLocking() && logicalConnection instanceof LogicalConnectionManagedImpl ) {
+				// rows may only be locked using a connection to the primary database
+				( (LogicalConnectionManagedImpl) logicalConnection ).releaseReadReplicaConnection();
+			}
+			if ( !logicalConnection.isPhysicallyConnected() ) {
+				( (ReadReplicaJdbcConnectionAccess) connectionAccess )
+						.beforeQuery( jdbcSelect.getAffectedTableNames(), isReadOnly( session ) );
+			}
+		}
+	}
+
+	private boolean isLocking() {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final LockOptions lockOptions = queryOptions == null ? null : queryOptions.getLockOptions();
+		return lockOptions != null && lockOptions.findGreatestLockMode().greaterThan( LockMode.READ );
+	}
+
+	private boolean isReadOnly(SharedSessionContractImplementor session) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final Boolean readOnly = queryOptions == null ? null : queryOptions.isReadOnly();
+		return ( readOnly == null ? session.isDefaultReadOnly() : readOnly ) && !isLocking();
+	}
+
+	private void traceExecution(int rowCount) {
+		final long fetchNanos = System.nanoTime() - executeEndNanos;
+		executeEndNanos = 0;
+		final String queryIdentifier = executionContext.getQueryIdentifier( finalSql );
+		sqlExecutionTracer.record(
+				finalSql,
+				finalSql.equals( queryIdentifier ) ? null : queryIdentifier,
+				bindNanos,
+				executeNanos,
+				fetchNanos,
+				rowCount,
+				0
+		);
+	}
+
 	protected void skipRows(ResultSet resultSet) throws SQLException {
 		// For dialects that don't support an offset clause
 		final int rowsToSkip;
@@ -307,19 +430,31 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	@Override
 	public void release() {
+		release( -1, false );
+	}
+
+	@Override
+	public void release(int rowCount, boolean fullyRead) {
+		if ( executeEndNanos != 0 ) {
+			traceExecution( rowCount );
+		}
+		// the rows of results which were closed early, or cut off by
+		// the maximum rows, do not tell how many the statement returns
+		if ( fullyRead && preparedStatement != null ) {
+			final Integer maxRows = getMaxRows();
+			if ( maxRows == null || rowCount < maxRows ) {
+				recordRowCount( rowCount );
+			}
+		}
+		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator()
+				.getLogicalConnection();
 		if ( resultSet != null ) {
-			getPersistenceContext().getJdbcCoordinator()
-					.getLogicalConnection()
-					.getResourceRegistry()
-					.release( resultSet, preparedStatement );
+			logicalConnection.getResourceRegistry().release( resultSet, preparedStatement );
 			resultSet = null;
 		}
 
 		if ( preparedStatement != null ) {
-			getPersistenceContext().getJdbcCoordinator()
-					.getLogicalConnection()
-					.getResourceRegistry()
-					.release( preparedStatement );
+			logicalConnection.getResourceRegistry().release( preparedStatement );
 			preparedStatement = null;
 		}
 	}
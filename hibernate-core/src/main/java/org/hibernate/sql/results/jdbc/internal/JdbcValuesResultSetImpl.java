@@ -24,6 +24,7 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -36,9 +37,16 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
 
-	private final SqlSelection[] sqlSelections;
+	// resolved once per execution, rather than for each row
+	private final ValueExtractor<?>[] valueExtractors;
+	private final int[] jdbcResultSetIndexes;
+	private final int[] valuesArrayPositions;
 	private final Object[] currentRowJdbcValues;
 
+	private int rowsRead;
+	private boolean fullyRead;
+	private boolean repositioned;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -52,7 +60,16 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
 
-		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
+		final SqlSelection[] sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
+		this.valueExtractors = new ValueExtractor<?>[sqlSelections.length];
+		this.jdbcResultSetIndexes = new int[sqlSelections.length];
+		this.valuesArrayPositions = new int[sqlSelections.length];
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections[i];
+			valueExtractors[i] = sqlSelection.getJdbcValueExtractor();
+			jdbcResultSetIndexes[i] = sqlSelection.getJdbcResultSetIndex();
+			valuesArrayPositions[i] = sqlSelection.getValuesArrayPosition();
+		}
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
 	}
 
@@ -95,6 +112,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private boolean scrollRows(final int numberOfRows) {
+		repositioned = true;
 		try {
 			return resultSetAccess.getResultSet().relative( numberOfRows );
 		}
@@ -119,6 +137,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private boolean advanceToPosition(final int position) {
+		repositioned = true;
 		try {
 			return resultSetAccess.getResultSet().absolute( position );
 		}
@@ -139,6 +158,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public void beforeFirst(RowProcessingState rowProcessingState) {
+		repositioned = true;
 		try {
 			resultSetAccess.getResultSet().beforeFirst();
 			Arrays.fill( currentRowJdbcValues, null );
@@ -175,6 +195,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public void afterLast(RowProcessingState rowProcessingState) {
+		repositioned = true;
 		try {
 			resultSetAccess.getResultSet().afterLast();
 			Arrays.fill( currentRowJdbcValues, null );
@@ -201,7 +222,12 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	private boolean advanceNext() {
 		try {
-			return resultSetAccess.getResultSet().next();
+			if ( resultSetAccess.getResultSet().next() ) {
+				rowsRead++;
+				return true;
+			}
+			fullyRead = true;
+			return false;
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
@@ -209,6 +235,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private boolean advanceToLast() {
+		repositioned = true;
 		try {
 			return resultSetAccess.getResultSet().last();
 		}
@@ -218,6 +245,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private boolean advanceToFirst() {
+		repositioned = true;
 		try {
 			return resultSetAccess.getResultSet().first();
 		}
@@ -227,6 +255,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private boolean advancePrevious() {
+		repositioned = true;
 		try {
 			return resultSetAccess.getResultSet().previous();
 		}
@@ -257,11 +286,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private void readCurrentRowValues() {
 		final ResultSet resultSet = resultSetAccess.getResultSet();
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		for ( final SqlSelection sqlSelection : sqlSelections ) {
+		for ( int i = 0; i < valueExtractors.length; i++ ) {
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
+				currentRowJdbcValues[ valuesArrayPositions[i] ] = valueExtractors[i].extract(
 						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
+						jdbcResultSetIndexes[i],
 						session
 				);
 			}
@@ -269,7 +298,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 				// do not want to wrap in ExecutionException here
 				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
 						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+						"Could not extract column [" + jdbcResultSetIndexes[i] + "] from JDBC ResultSet"
 				);
 			}
 		}
@@ -277,7 +306,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected void release() {
-		resultSetAccess.release();
+		resultSetAccess.release( rowsRead, fullyRead && !repositioned );
 	}
 
 	@Override
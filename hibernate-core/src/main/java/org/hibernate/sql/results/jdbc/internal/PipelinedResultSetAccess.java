@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.query.spi.Limit;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * Access to the result set of one of the {@code select} statements of a
+ * multi-statement {@link PreparedStatement}, which is not executed by this
+ * object, but by the owner of the statement, which also releases it.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsMultiStatementSelects()
+ */
+public class PipelinedResultSetAccess extends DeferredResultSetAccess {
+	private final JdbcOperationQuerySelect jdbcSelect;
+
+	private ResultSet resultSet;
+
+	public PipelinedResultSetAccess(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		super( jdbcSelect, jdbcParameterBindings, executionContext, null );
+		this.jdbcSelect = jdbcSelect;
+	}
+
+	/**
+	 * Can the statement be executed as part of a multi-statement {@link PreparedStatement}?
+	 * It can't if it requires options which apply to the whole statement, such as a
+	 * maximum number of rows, or if it uses follow-on locking.
+	 */
+	public boolean isPipelinable() {
+		final Limit limit = getLimit();
+		return jdbcSelect.getMaxRows() == Integer.MAX_VALUE
+				&& ( jdbcSelect.usesLimitParameters() || limit == null || limit.getMaxRows() == null )
+				&& !usesFollowOnLocking();
+	}
+
+	@Override
+	public int bindParameterValues(PreparedStatement preparedStatement, int startPosition) throws SQLException {
+		return super.bindParameterValues( preparedStatement, startPosition );
+	}
+
+	/**
+	 * Provide the result set of the statement, once the multi-statement has been executed.
+	 */
+	public void setResultSet(ResultSet resultSet) throws SQLException {
+		skipRows( resultSet );
+		this.resultSet = resultSet;
+	}
+
+	@Override
+	public ResultSet getResultSet() {
+		if ( resultSet == null ) {
+			throw new IllegalStateException( "Multi-statement select was not executed" );
+		}
+		return resultSet;
+	}
+
+	@Override
+	public void release(int rowCount, boolean fullyRead) {
+		// the result set and statement are released along with the multi-statement
+		resultSet = null;
+	}
+}
@@ -32,6 +32,17 @@ public interface ResultSetAccess extends JdbcValuesMetadata {
 	SessionFactoryImplementor getFactory();
 	void release();
 
+	/**
+	 * Release the results, after the given number of rows were read.
+	 *
+	 * @param rowCount The number of rows read
+	 * @param fullyRead Whether all rows of the results were read, that is,
+	 * whether the results were not closed early, nor repositioned
+	 */
+	default void release(int rowCount, boolean fullyRead) {
+		release();
+	}
+
 	default int getColumnCount() {
 		try {
 			return getResultSet().getMetaData().getColumnCount();
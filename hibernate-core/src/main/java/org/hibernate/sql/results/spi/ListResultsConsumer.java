@@ -10,12 +10,14 @@ import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.IntStream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.results.internal.BufferedRowProcessingState;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
@@ -37,6 +39,13 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 	private static final ListResultsConsumer<?> DE_DUP_CONSUMER = new ListResultsConsumer<>( UniqueSemantic.FILTER );
 	private static final ListResultsConsumer<?> ERROR_DUP_CONSUMER = new ListResultsConsumer<>( UniqueSemantic.ASSERT );
 
+	/**
+	 * The number of rows assembled by a single task when results are assembled in parallel
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_PARALLEL_ASSEMBLY
+	 */
+	private static final int PARALLEL_ASSEMBLY_CHUNK_SIZE = 256;
+
 	@SuppressWarnings("unchecked")
 	public static <R> ListResultsConsumer<R> instance(UniqueSemantic uniqueSemantic) {
 		switch ( uniqueSemantic ) {
@@ -193,6 +202,10 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 					rowProcessingState.finishRowProcessing();
 				}
 			}
+			else if ( Boolean.TRUE.equals( queryOptions.isParallelAssemblyEnabled() )
+					&& rowReader.isParallelAssemblySupported() ) {
+				readRowsInParallel( jdbcValues, processingOptions, rowProcessingState, rowReader, results );
+			}
 			else {
 				while ( rowProcessingState.next() ) {
 					results.add( rowReader.readRow( rowProcessingState, processingOptions ) );
@@ -242,6 +255,43 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		throw new IllegalStateException( "Should not reach this" );
 	}
 
+	/**
+	 * Read the raw JDBC values of all rows on the calling thread, and then
+	 * assemble the results in chunks using the common fork/join pool.
+	 */
+	private static <R> void readRowsInParallel(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			Results<R> results) {
+		final List<Object[]> rows = new ArrayList<>();
+		while ( rowProcessingState.next() ) {
+			rows.add( jdbcValues.getCurrentRowValuesArray().clone() );
+			rowProcessingState.finishRowProcessing();
+		}
+
+		final int rowCount = rows.size();
+		final Object[] assembled = new Object[rowCount];
+		final int chunkCount = ( rowCount + PARALLEL_ASSEMBLY_CHUNK_SIZE - 1 ) / PARALLEL_ASSEMBLY_CHUNK_SIZE;
+		final IntStream chunks = IntStream.range( 0, chunkCount );
+		( chunkCount > 1 ? chunks.parallel() : chunks ).forEach(
+				chunk -> {
+					final BufferedRowProcessingState bufferedState = new BufferedRowProcessingState( rowProcessingState );
+					final int end = Math.min( rowCount, ( chunk + 1 ) * PARALLEL_ASSEMBLY_CHUNK_SIZE );
+					for ( int i = chunk * PARALLEL_ASSEMBLY_CHUNK_SIZE; i < end; i++ ) {
+						bufferedState.setRow( rows.get( i ) );
+						assembled[i] = rowReader.readRow( bufferedState, processingOptions );
+					}
+				}
+		);
+
+		for ( Object result : assembled ) {
+			//noinspection unchecked
+			results.add( (R) result );
+		}
+	}
+
 	private JavaType<R> resolveDomainResultJavaType(
 			Class<R> domainResultResultJavaType,
 			List<JavaType<?>> resultJavaTypes,
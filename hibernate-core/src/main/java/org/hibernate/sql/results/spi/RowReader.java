@@ -80,4 +80,15 @@ public interface RowReader<R> {
 	 */
 	InitializersList getInitializersList();
 
+	/**
+	 * Whether {@link #readRow} may be called concurrently for different rows,
+	 * that is, whether reading a row has no effect on the persistence context
+	 * and no state is shared between rows.
+	 *
+	 * @since 6.3
+	 */
+	default boolean isParallelAssemblySupported() {
+		return false;
+	}
+
 }
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+/**
+ * Statistics of the built-in JDBC connection pool.
+ *
+ * @see Statistics#getConnectionPoolStatistics()
+ *
+ * @since 6.3
+ */
+public interface ConnectionPoolStatistics {
+	/**
+	 * The number of connections currently in use.
+	 */
+	int getActiveCount();
+
+	/**
+	 * The number of connections currently available in the pool.
+	 */
+	int getIdleCount();
+
+	/**
+	 * The number of threads currently waiting for a connection.
+	 */
+	int getPendingCount();
+
+	/**
+	 * The maximum number of connections in the pool.
+	 */
+	int getMaxSize();
+
+	/**
+	 * The number of connections opened by the pool since it was started.
+	 */
+	long getCreatedCount();
+
+	/**
+	 * The number of requests for a connection which timed out waiting for
+	 * a connection to become available.
+	 */
+	long getAcquisitionTimeoutCount();
+
+	/**
+	 * The number of connections reported as possibly leaked, having been in
+	 * use for longer than the leak detection threshold.
+	 */
+	long getLeakCount();
+}
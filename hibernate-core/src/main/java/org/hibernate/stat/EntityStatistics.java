@@ -50,4 +50,14 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size most recently learned by adaptive batch fetching for this
+	 * entity, or {@code 0} if adaptive batch fetching has not been applied to it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchSize() {
+		return 0;
+	}
 }
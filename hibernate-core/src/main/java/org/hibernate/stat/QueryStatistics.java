@@ -105,4 +105,15 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The fetch size most recently learned by adaptive fetch sizing for this
+	 * query, or {@code 0} if adaptive fetch sizing has not been applied to it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_MAX_SIZE
+	 */
+	default int getAdaptiveFetchSize() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -379,4 +379,14 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * Statistics of the built-in connection pool, or {@code null} if the
+	 * connections are not obtained from the built-in connection pool.
+	 *
+	 * @since 6.3
+	 */
+	default ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return null;
+	}
 }
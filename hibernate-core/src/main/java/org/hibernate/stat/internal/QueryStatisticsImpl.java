@@ -38,6 +38,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private volatile int adaptiveFetchSize;
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -154,6 +156,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * Fetch size most recently learned by adaptive fetch sizing
+	 */
+	public int getAdaptiveFetchSize() {
+		return adaptiveFetchSize;
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -207,6 +216,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheMissCount.increment();
 	}
 
+	void setAdaptiveFetchSize(int adaptiveFetchSize) {
+		this.adaptiveFetchSize = adaptiveFetchSize;
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -220,6 +233,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
 				+ ",executionMaxTime=" + this.executionMaxTime
 				+ ",executionMinTime=" + this.executionMinTime
+				+ ",adaptiveFetchSize=" + this.adaptiveFetchSize
 				+ ']';
 	}
 }
@@ -18,12 +18,15 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.ConnectionPoolStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -48,6 +51,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
 
+	private final ConnectionPoolStatistics connectionPoolStatistics;
+
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
 
@@ -127,6 +132,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		connectionPoolStatistics = resolveConnectionPoolStatistics( sessionFactory );
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -137,6 +143,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		this.allCollectionRoles = collectionRoles.toArray( new String[0] );
 	}
 
+	private static ConnectionPoolStatistics resolveConnectionPoolStatistics(SessionFactoryImplementor sessionFactory) {
+		if ( sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled() ) {
+			return null;
+		}
+		final ConnectionProvider connectionProvider = sessionFactory.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+		return connectionProvider != null
+				&& connectionProvider.isUnwrappableAs( DriverManagerConnectionProviderImpl.class )
+				? connectionProvider.unwrap( DriverManagerConnectionProviderImpl.class ).getPoolStatistics()
+				: null;
+	}
+
 	/**
 	 * reset all statistics
 	 */
@@ -285,6 +303,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void adaptiveBatchFetchSize(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setAdaptiveBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -737,6 +760,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return connectionPoolStatistics;
+	}
+
+	@Override
+	public void adaptiveFetchSize(String query, int fetchSize) {
+		if ( query != null ) {
+			getQueryStatistics( query ).setAdaptiveFetchSize( fetchSize );
+		}
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -69,6 +69,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about adaptive batch fetching having learned a new batch size for an entity.
+	 *
+	 * @param entityName The name of the entity.
+	 * @param batchSize The learned batch size.
+	 */
+	default void adaptiveBatchFetchSize(String entityName, int batchSize) {
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -232,6 +241,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback about adaptive fetch sizing having learned a new fetch size for a query.
+	 *
+	 * @param query The query
+	 * @param fetchSize The learned fetch size
+	 */
+	default void adaptiveFetchSize(String query, int fetchSize) {
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
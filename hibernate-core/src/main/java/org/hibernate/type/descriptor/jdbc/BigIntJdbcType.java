@@ -17,7 +17,9 @@ import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.BasicJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
 import org.hibernate.type.descriptor.jdbc.internal.JdbcLiteralFormatterNumericData;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -56,6 +58,9 @@ public class BigIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+		if ( javaType.getClass() == LongJavaType.class ) {
+			return JdbcValueFastPaths.longBinder( javaType, this );
+		}
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
@@ -73,6 +78,9 @@ public class BigIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+		if ( javaType.getClass() == LongJavaType.class ) {
+			return JdbcValueFastPaths.longExtractor( javaType, this );
+		}
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -16,8 +16,10 @@ import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.BasicJavaType;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.jdbc.internal.JdbcLiteralFormatterBoolean;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -76,6 +78,9 @@ public class BooleanJdbcType implements AdjustableJdbcType {
 	}
 
 	public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+		if ( javaType.getClass() == BooleanJavaType.class ) {
+			return JdbcValueFastPaths.booleanBinder( javaType, this );
+		}
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBindNull(PreparedStatement st, int index, WrapperOptions options) throws SQLException {
@@ -101,6 +106,9 @@ public class BooleanJdbcType implements AdjustableJdbcType {
 	}
 
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+		if ( javaType.getClass() == BooleanJavaType.class ) {
+			return JdbcValueFastPaths.booleanExtractor( javaType, this );
+		}
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -17,8 +17,10 @@ import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.BasicJavaType;
+import org.hibernate.type.descriptor.java.BigDecimalJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.jdbc.internal.JdbcLiteralFormatterNumericData;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -67,6 +69,9 @@ public class DecimalJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+		if ( javaType.getClass() == BigDecimalJavaType.class ) {
+			return JdbcValueFastPaths.bigDecimalBinder( javaType, this );
+		}
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
@@ -83,6 +88,9 @@ public class DecimalJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+		if ( javaType.getClass() == BigDecimalJavaType.class ) {
+			return JdbcValueFastPaths.bigDecimalExtractor( javaType, this );
+		}
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -16,8 +16,10 @@ import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.BasicJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.jdbc.internal.JdbcLiteralFormatterNumericData;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -66,6 +68,9 @@ public class IntegerJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+		if ( javaType.getClass() == IntegerJavaType.class ) {
+			return JdbcValueFastPaths.integerBinder( javaType, this );
+		}
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
@@ -82,6 +87,9 @@ public class IntegerJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+		if ( javaType.getClass() == IntegerJavaType.class ) {
+			return JdbcValueFastPaths.integerExtractor( javaType, this );
+		}
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
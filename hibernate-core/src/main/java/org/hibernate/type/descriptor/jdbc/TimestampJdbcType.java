@@ -20,7 +20,9 @@ import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.JdbcTimestampJavaType;
 import org.hibernate.type.descriptor.jdbc.internal.JdbcLiteralFormatterTemporal;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -69,6 +71,9 @@ public class TimestampJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+		if ( javaType.getClass() == JdbcTimestampJavaType.class ) {
+			return JdbcValueFastPaths.timestampBinder( javaType, this );
+		}
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
@@ -103,6 +108,9 @@ public class TimestampJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+		if ( javaType.getClass() == JdbcTimestampJavaType.class ) {
+			return JdbcValueFastPaths.timestampExtractor( javaType, this );
+		}
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -17,7 +17,9 @@ import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.UUIDJavaType;
 import org.hibernate.type.descriptor.jdbc.internal.JdbcLiteralFormatterUUIDData;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
 
 /**
  * Specialized type mapping for {@link UUID} and the UUID SQL data type.
@@ -58,6 +60,9 @@ public class UUIDJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
+		if ( javaType.getClass() == UUIDJavaType.class ) {
+			return JdbcValueFastPaths.uuidBinder( javaType, this );
+		}
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
@@ -75,6 +80,9 @@ public class UUIDJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
+		if ( javaType.getClass() == UUIDJavaType.class ) {
+			return JdbcValueFastPaths.uuidExtractor( javaType, this );
+		}
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -0,0 +1,428 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.type.descriptor.jdbc.internal;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+/**
+ * Specialized {@link ValueBinder}s and {@link ValueExtractor}s for the most common
+ * combinations of {@link JdbcType} and {@link JavaType}, where the Java type is the
+ * one naturally read and written by the JDBC driver.
+ * <p>
+ * The generic binders and extractors convert every value via {@link JavaType#unwrap}
+ * and {@link JavaType#wrap}. These implementations access the JDBC value directly
+ * instead, and so only save that conversion. They are still invoked via
+ * {@link BasicBinder#bind} and {@link BasicExtractor#extract}, whose calls to
+ * {@code doBind()} and {@code doExtract()} remain shared by every binder and
+ * extractor.
+ *
+ * @see org.hibernate.type.descriptor.jdbc.BigIntJdbcType
+ * @see org.hibernate.type.descriptor.jdbc.IntegerJdbcType
+ * @see org.hibernate.type.descriptor.jdbc.VarcharJdbcType
+ * @see org.hibernate.type.descriptor.jdbc.TimestampJdbcType
+ * @see org.hibernate.type.descriptor.jdbc.BooleanJdbcType
+ * @see org.hibernate.type.descriptor.jdbc.DecimalJdbcType
+ * @see org.hibernate.type.descriptor.jdbc.UUIDJdbcType
+ */
+@SuppressWarnings("unchecked")
+public final class JdbcValueFastPaths {
+	private JdbcValueFastPaths() {
+	}
+
+	public static <X> ValueBinder<X> longBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new LongBinder( (JavaType<Long>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> longExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new LongExtractor( (JavaType<Long>) javaType, jdbcType );
+	}
+
+	public static <X> ValueBinder<X> integerBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new IntegerBinder( (JavaType<Integer>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> integerExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new IntegerExtractor( (JavaType<Integer>) javaType, jdbcType );
+	}
+
+	public static <X> ValueBinder<X> stringBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new StringBinder( (JavaType<String>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> stringExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new StringExtractor( (JavaType<String>) javaType, jdbcType );
+	}
+
+	public static <X> ValueBinder<X> timestampBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new TimestampBinder( (JavaType<Date>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> timestampExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new TimestampExtractor( (JavaType<Date>) javaType, jdbcType );
+	}
+
+	public static <X> ValueBinder<X> booleanBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new BooleanBinder( (JavaType<Boolean>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> booleanExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new BooleanExtractor( (JavaType<Boolean>) javaType, jdbcType );
+	}
+
+	public static <X> ValueBinder<X> bigDecimalBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new BigDecimalBinder( (JavaType<BigDecimal>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> bigDecimalExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new BigDecimalExtractor( (JavaType<BigDecimal>) javaType, jdbcType );
+	}
+
+	public static <X> ValueBinder<X> uuidBinder(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueBinder<X>) new UUIDBinder( (JavaType<UUID>) javaType, jdbcType );
+	}
+
+	public static <X> ValueExtractor<X> uuidExtractor(JavaType<X> javaType, JdbcType jdbcType) {
+		return (ValueExtractor<X>) new UUIDExtractor( (JavaType<UUID>) javaType, jdbcType );
+	}
+
+	private static final class LongBinder extends BasicBinder<Long> {
+		private LongBinder(JavaType<Long> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, Long value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setLong( index, value );
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, Long value, String name, WrapperOptions options)
+				throws SQLException {
+			st.setLong( name, value );
+		}
+	}
+
+	private static final class LongExtractor extends BasicExtractor<Long> {
+		private LongExtractor(JavaType<Long> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected Long doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return rs.getLong( paramIndex );
+		}
+
+		@Override
+		protected Long doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return statement.getLong( index );
+		}
+
+		@Override
+		protected Long doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return statement.getLong( name );
+		}
+	}
+
+	private static final class IntegerBinder extends BasicBinder<Integer> {
+		private IntegerBinder(JavaType<Integer> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, Integer value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setInt( index, value );
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, Integer value, String name, WrapperOptions options)
+				throws SQLException {
+			st.setInt( name, value );
+		}
+	}
+
+	private static final class IntegerExtractor extends BasicExtractor<Integer> {
+		private IntegerExtractor(JavaType<Integer> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected Integer doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return rs.getInt( paramIndex );
+		}
+
+		@Override
+		protected Integer doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return statement.getInt( index );
+		}
+
+		@Override
+		protected Integer doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return statement.getInt( name );
+		}
+	}
+
+	private static final class StringBinder extends BasicBinder<String> {
+		private StringBinder(JavaType<String> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, String value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setString( index, value );
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, String value, String name, WrapperOptions options)
+				throws SQLException {
+			st.setString( name, value );
+		}
+	}
+
+	private static final class StringExtractor extends BasicExtractor<String> {
+		private StringExtractor(JavaType<String> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected String doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return rs.getString( paramIndex );
+		}
+
+		@Override
+		protected String doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return statement.getString( index );
+		}
+
+		@Override
+		protected String doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return statement.getString( name );
+		}
+	}
+
+	private static final class TimestampBinder extends BasicBinder<Date> {
+		private TimestampBinder(JavaType<Date> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, Date value, int index, WrapperOptions options)
+				throws SQLException {
+			final Timestamp timestamp = toTimestamp( value, options );
+			if ( options.getJdbcTimeZone() != null ) {
+				st.setTimestamp( index, timestamp, Calendar.getInstance( options.getJdbcTimeZone() ) );
+			}
+			else {
+				st.setTimestamp( index, timestamp );
+			}
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, Date value, String name, WrapperOptions options)
+				throws SQLException {
+			final Timestamp timestamp = toTimestamp( value, options );
+			if ( options.getJdbcTimeZone() != null ) {
+				st.setTimestamp( name, timestamp, Calendar.getInstance( options.getJdbcTimeZone() ) );
+			}
+			else {
+				st.setTimestamp( name, timestamp );
+			}
+		}
+
+		private Timestamp toTimestamp(Date value, WrapperOptions options) {
+			return value instanceof Timestamp
+					? (Timestamp) value
+					: getJavaType().unwrap( value, Timestamp.class, options );
+		}
+	}
+
+	private static final class TimestampExtractor extends BasicExtractor<Date> {
+		private TimestampExtractor(JavaType<Date> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected Date doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return options.getJdbcTimeZone() != null
+					? rs.getTimestamp( paramIndex, Calendar.getInstance( options.getJdbcTimeZone() ) )
+					: rs.getTimestamp( paramIndex );
+		}
+
+		@Override
+		protected Date doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return options.getJdbcTimeZone() != null
+					? statement.getTimestamp( index, Calendar.getInstance( options.getJdbcTimeZone() ) )
+					: statement.getTimestamp( index );
+		}
+
+		@Override
+		protected Date doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return options.getJdbcTimeZone() != null
+					? statement.getTimestamp( name, Calendar.getInstance( options.getJdbcTimeZone() ) )
+					: statement.getTimestamp( name );
+		}
+	}
+
+	private static final class BooleanBinder extends BasicBinder<Boolean> {
+		private BooleanBinder(JavaType<Boolean> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBindNull(PreparedStatement st, int index, WrapperOptions options) throws SQLException {
+			st.setNull( index, options.getPreferredSqlTypeCodeForBoolean() );
+		}
+
+		@Override
+		protected void doBindNull(CallableStatement st, String name, WrapperOptions options) throws SQLException {
+			st.setNull( name, options.getPreferredSqlTypeCodeForBoolean() );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, Boolean value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setBoolean( index, value );
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, Boolean value, String name, WrapperOptions options)
+				throws SQLException {
+			st.setBoolean( name, value );
+		}
+	}
+
+	private static final class BooleanExtractor extends BasicExtractor<Boolean> {
+		private BooleanExtractor(JavaType<Boolean> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected Boolean doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return rs.getBoolean( paramIndex );
+		}
+
+		@Override
+		protected Boolean doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return statement.getBoolean( index );
+		}
+
+		@Override
+		protected Boolean doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return statement.getBoolean( name );
+		}
+	}
+
+	private static final class BigDecimalBinder extends BasicBinder<BigDecimal> {
+		private BigDecimalBinder(JavaType<BigDecimal> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, BigDecimal value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setBigDecimal( index, value );
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, BigDecimal value, String name, WrapperOptions options)
+				throws SQLException {
+			st.setBigDecimal( name, value );
+		}
+	}
+
+	private static final class BigDecimalExtractor extends BasicExtractor<BigDecimal> {
+		private BigDecimalExtractor(JavaType<BigDecimal> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected BigDecimal doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return rs.getBigDecimal( paramIndex );
+		}
+
+		@Override
+		protected BigDecimal doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return statement.getBigDecimal( index );
+		}
+
+		@Override
+		protected BigDecimal doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return statement.getBigDecimal( name );
+		}
+	}
+
+	private static final class UUIDBinder extends BasicBinder<UUID> {
+		private UUIDBinder(JavaType<UUID> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected void doBind(PreparedStatement st, UUID value, int index, WrapperOptions options)
+				throws SQLException {
+			st.setObject( index, value );
+		}
+
+		@Override
+		protected void doBind(CallableStatement st, UUID value, String name, WrapperOptions options)
+				throws SQLException {
+			st.setObject( name, value );
+		}
+	}
+
+	private static final class UUIDExtractor extends BasicExtractor<UUID> {
+		private UUIDExtractor(JavaType<UUID> javaType, JdbcType jdbcType) {
+			super( javaType, jdbcType );
+		}
+
+		@Override
+		protected UUID doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+			return rs.getObject( paramIndex, UUID.class );
+		}
+
+		@Override
+		protected UUID doExtract(CallableStatement statement, int index, WrapperOptions options)
+				throws SQLException {
+			return statement.getObject( index, UUID.class );
+		}
+
+		@Override
+		protected UUID doExtract(CallableStatement statement, String name, WrapperOptions options)
+				throws SQLException {
+			return statement.getObject( name, UUID.class );
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Adaptive batch fetching learns the batch size from the proxies which were actually initialized
+ */
+@DomainModel(
+		annotatedClasses = { AdaptiveBatchFetchTest.Parent.class, AdaptiveBatchFetchTest.Child.class }
+)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "20")
+})
+public class AdaptiveBatchFetchTest {
+
+	private static final int PARENTS = 30;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= PARENTS; i++ ) {
+						final Parent parent = new Parent( i, "parent " + i );
+						session.persist( parent );
+						session.persist( new Child( i, parent ) );
+					}
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Child" ).executeUpdate();
+					session.createMutationQuery( "delete from Parent" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testBatchSizeFollowsInitializedProxies(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		// only ever use two of the parents, so batches of 10 over-fetch
+		for ( int i = 0; i < 12; i++ ) {
+			initializeParents( scope, 2 );
+		}
+		assertThat( parentStatistics( statistics ).getAdaptiveBatchFetchSize() ).isEqualTo( 2 );
+
+		statistics.clear();
+		initializeParents( scope, 1 );
+		// the first parent was loaded together with one other parent only
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( PARENTS + 2 );
+
+		// now use all the parents, so batches grow up to the configured maximum
+		for ( int i = 0; i < 12; i++ ) {
+			initializeParents( scope, PARENTS );
+		}
+		assertThat( parentStatistics( statistics ).getAdaptiveBatchFetchSize() ).isEqualTo( 20 );
+	}
+
+	private static EntityStatistics parentStatistics(Statistics statistics) {
+		return statistics.getEntityStatistics( Parent.class.getName() );
+	}
+
+	private static void initializeParents(SessionFactoryScope scope, int count) {
+		scope.inTransaction(
+				session -> {
+					final List<Child> children = session.createQuery( "from Child order by id", Child.class )
+							.getResultList();
+					for ( int i = 0; i < count; i++ ) {
+						Hibernate.initialize( children.get( i ).getParent() );
+					}
+				}
+		);
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "PARENT_TABLE")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "CHILD_TABLE")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+}
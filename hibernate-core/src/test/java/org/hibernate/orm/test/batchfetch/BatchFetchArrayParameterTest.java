@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch and multi-id loading with all keys bound as a single array parameter
+ */
+@DomainModel(
+		annotatedClasses = { BatchFetchArrayParameterTest.Parent.class, BatchFetchArrayParameterTest.Child.class }
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_FETCH_ARRAY_PARAMETER, value = "true")
+})
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsStandardArrays.class)
+public class BatchFetchArrayParameterTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final Parent parent = new Parent( i, "parent " + i );
+						session.persist( parent );
+						session.persist( new Child( i * 10, parent ) );
+						session.persist( new Child( i * 10 + 1, parent ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Child" ).executeUpdate();
+					session.createMutationQuery( "delete from Parent" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testEntityBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Child> children = session.createQuery( "from Child order by id", Child.class )
+							.getResultList();
+					statementInspector.clear();
+
+					assertThat( children.get( 0 ).getParent().getName() ).isEqualTo( "parent 1" );
+					for ( Child child : children ) {
+						assertThat( Hibernate.isInitialized( child.getParent() ) ).isTrue();
+					}
+					statementInspector.assertExecutedCount( 1 );
+					assertThat( countParameters( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 1 );
+				}
+		);
+	}
+
+	@Test
+	public void testCollectionBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Parent> parents = session.createQuery( "from Parent order by id", Parent.class )
+							.getResultList();
+					statementInspector.clear();
+
+					assertThat( parents.get( 0 ).getChildren() ).hasSize( 2 );
+					for ( Parent parent : parents ) {
+						assertThat( Hibernate.isInitialized( parent.getChildren() ) ).isTrue();
+					}
+					statementInspector.assertExecutedCount( 1 );
+					assertThat( countParameters( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 1 );
+				}
+		);
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Parent> parents = session.byMultipleIds( Parent.class ).multiLoad( 1, 2, 3, 4 );
+					assertThat( parents ).hasSize( 4 );
+					assertThat( parents.get( 2 ).getName() ).isEqualTo( "parent 3" );
+					assertThat( parents.get( 3 ) ).isNull();
+					statementInspector.assertExecutedCount( 1 );
+					assertThat( countParameters( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 1 );
+				}
+		);
+	}
+
+	private static int countParameters(String sql) {
+		int count = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			if ( sql.charAt( i ) == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "PARENT_TABLE")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Child> getChildren() {
+			return children;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "CHILD_TABLE")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+}
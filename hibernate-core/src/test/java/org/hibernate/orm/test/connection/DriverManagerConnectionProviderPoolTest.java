@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+import org.hibernate.stat.ConnectionPoolStatistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Waiting for, and reuse of, the connections of the built-in connection pool
+ */
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@BeforeEach
+	public void setUp() {
+		final Map<String, Object> settings = PropertiesHelper.map( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, "2" );
+		settings.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "200" );
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( settings );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final ConnectionPoolStatistics statistics = connectionProvider.getPoolStatistics();
+		assertThat( statistics.getActiveCount() ).isEqualTo( 2 );
+		assertThat( statistics.getIdleCount() ).isZero();
+
+		assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+		assertThat( statistics.getAcquisitionTimeoutCount() ).isEqualTo( 1 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+		assertThat( statistics.getActiveCount() ).isZero();
+		assertThat( statistics.getCreatedCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testWaitForReturnedConnection() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		connectionProvider.closeConnection( first );
+
+		final Connection third = waiting.get( 5, TimeUnit.SECONDS );
+		assertThat( third ).isSameAs( first );
+
+		connectionProvider.closeConnection( second );
+		connectionProvider.closeConnection( third );
+	}
+
+	@Test
+	public void testThreadAffinity() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		connectionProvider.closeConnection( second );
+		connectionProvider.closeConnection( first );
+
+		// the connection last returned by the thread is preferred
+		final Connection connection = connectionProvider.getConnection();
+		assertThat( connection ).isSameAs( first );
+		connectionProvider.closeConnection( connection );
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connections;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing of the connection of a transaction which begin is deferred until
+ * its first query
+ *
+ * @see AvailableSettings#DEFER_TRANSACTION_BEGIN
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.DEFER_TRANSACTION_BEGIN, value = "true" ),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = ReadReplicaRoutingTest.ConnectionProviderSettingProvider.class
+		)
+)
+@DomainModel( annotatedClasses = { ReadReplicaRoutingTest.Item.class, ReadReplicaRoutingTest.Archive.class } )
+@SessionFactory
+public class ReadReplicaDeferredTransactionBeginTest {
+
+	@Test
+	public void testReadOnlyQueryOfReadWriteTransaction(SessionFactoryScope scope) {
+		final ReadReplicaRoutingTest.RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createQuery( "from Archive", ReadReplicaRoutingTest.Archive.class )
+								.setReadOnly( true )
+								.getResultList() ).isEmpty();
+			// flushed using the connection acquired by the query
+			session.persist( new ReadReplicaRoutingTest.Item( 1, "first" ) );
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isZero();
+	}
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		final ReadReplicaRoutingTest.RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inSession( (session) -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			assertThat( session.createQuery( "from Archive", ReadReplicaRoutingTest.Archive.class ).getResultList() )
+					.isEmpty();
+			// the session might still write to the database
+			session.persist( new ReadReplicaRoutingTest.Item( 1, "first" ) );
+			session.getTransaction().commit();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isZero();
+	}
+
+	@Test
+	public void testTransactionAfterReadOnlyQuery(SessionFactoryScope scope) {
+		final ReadReplicaRoutingTest.RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inSession( (session) -> {
+			assertThat( session.createQuery( "from Archive", ReadReplicaRoutingTest.Archive.class )
+								.setReadOnly( true )
+								.getResultList() ).isEmpty();
+			session.getTransaction().begin();
+			// the transaction begins on the connection acquired by the flush
+			assertThat( connectionProvider.openReadReplicaConnections ).isEmpty();
+			session.persist( new ReadReplicaRoutingTest.Item( 1, "first" ) );
+			session.getTransaction().commit();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+
+		scope.inSession( (session) -> assertThat( session.find( ReadReplicaRoutingTest.Item.class, 1 ) ).isNotNull() );
+	}
+
+	@BeforeEach
+	public void resetCount(SessionFactoryScope scope) {
+		getConnectionProvider( scope ).readReplicaConnections = 0;
+		getConnectionProvider( scope ).openReadReplicaConnections.clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	private static ReadReplicaRoutingTest.RoutingConnectionProvider getConnectionProvider(SessionFactoryScope scope) {
+		return (ReadReplicaRoutingTest.RoutingConnectionProvider) scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+}
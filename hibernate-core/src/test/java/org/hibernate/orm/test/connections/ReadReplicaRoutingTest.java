@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connections;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing of read-only queries to the read replica of a {@link ReadReplicaConnectionProvider}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.READ_REPLICA_MAX_LAG, value = "60000" ),
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = ReadReplicaRoutingTest.ConnectionProviderSettingProvider.class
+		)
+)
+@DomainModel( annotatedClasses = { ReadReplicaRoutingTest.Item.class, ReadReplicaRoutingTest.Archive.class } )
+@SessionFactory
+public class ReadReplicaRoutingTest {
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		final RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inSession( (session) -> {
+			assertThat( session.createQuery( "from Archive", Archive.class ).getResultList() ).isEmpty();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isZero();
+
+		scope.inSession( (session) -> {
+			session.setDefaultReadOnly( true );
+			assertThat( session.createQuery( "from Archive", Archive.class ).getResultList() ).isEmpty();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+
+		scope.inSession( (session) -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			assertThat( session.createQuery( "from Archive", Archive.class ).getResultList() ).isEmpty();
+			session.getTransaction().commit();
+		} );
+		// the connection of a transaction is never routed to the replica
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testTransactionAfterReadOnlyQuery(SessionFactoryScope scope) {
+		final RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inSession( (session) -> {
+			assertThat( session.createQuery( "from Archive", Archive.class ).setReadOnly( true ).getResultList() )
+					.isEmpty();
+			assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+			assertThat( connectionProvider.openReadReplicaConnections ).hasSize( 1 );
+
+			session.getTransaction().begin();
+			// the transaction did not begin on the replica
+			assertThat( connectionProvider.openReadReplicaConnections ).isEmpty();
+			session.persist( new Item( 1, "first" ) );
+			session.flush();
+			final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			assertThat( connectionProvider.openReadReplicaConnections ).doesNotContain( connection );
+			session.getTransaction().commit();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+
+		scope.inSession( (session) -> assertThat( session.find( Item.class, 1 ) ).isNotNull() );
+	}
+
+	@Test
+	public void testWorkAfterReadOnlyQuery(SessionFactoryScope scope) {
+		final RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true ).openStatelessSession()) {
+			assertThat( session.get( Archive.class, 1 ) ).isNull();
+			assertThat( connectionProvider.openReadReplicaConnections ).hasSize( 1 );
+
+			// the work might write to the database
+			session.doWork( (connection) -> assertThat( connectionProvider.openReadReplicaConnections )
+					.isEmpty() );
+		}
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReadOnlyQuery(SessionFactoryScope scope) {
+		final RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inSession( (session) -> {
+			assertThat( session.createQuery( "from Archive", Archive.class ).setReadOnly( true ).getResultList() )
+					.isEmpty();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+
+		scope.inSession( (session) -> {
+			session.setDefaultReadOnly( true );
+			assertThat( session.createQuery( "from Archive", Archive.class ).setReadOnly( false ).getResultList() )
+					.isEmpty();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReadOnlyStatelessSession(SessionFactoryScope scope) {
+		final RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true ).openStatelessSession()) {
+			assertThat( session.get( Archive.class, 1 ) ).isNull();
+		}
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReplicationLag(SessionFactoryScope scope) {
+		final RoutingConnectionProvider connectionProvider = getConnectionProvider( scope );
+
+		scope.inTransaction( (session) -> session.persist( new Item( 1, "first" ) ) );
+
+		scope.inSession( (session) -> {
+			assertThat( session.createQuery( "from Item", Item.class ).setReadOnly( true ).getResultList() )
+					.hasSize( 1 );
+		} );
+		// the table was modified within the tolerated lag
+		assertThat( connectionProvider.readReplicaConnections ).isZero();
+
+		scope.inSession( (session) -> {
+			assertThat( session.createQuery( "from Archive", Archive.class ).setReadOnly( true ).getResultList() )
+					.isEmpty();
+		} );
+		assertThat( connectionProvider.readReplicaConnections ).isEqualTo( 1 );
+	}
+
+	@BeforeEach
+	public void resetCount(SessionFactoryScope scope) {
+		getConnectionProvider( scope ).readReplicaConnections = 0;
+		getConnectionProvider( scope ).openReadReplicaConnections.clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	private static RoutingConnectionProvider getConnectionProvider(SessionFactoryScope scope) {
+		return (RoutingConnectionProvider) scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+
+	public static class ConnectionProviderSettingProvider implements SettingProvider.Provider<RoutingConnectionProvider> {
+		@Override
+		public RoutingConnectionProvider getSetting() {
+			return new RoutingConnectionProvider();
+		}
+	}
+
+	public static class RoutingConnectionProvider extends ConnectionProviderDelegate
+			implements ReadReplicaConnectionProvider {
+		int readReplicaConnections;
+		final Set<Connection> openReadReplicaConnections = new HashSet<>();
+
+		@Override
+		public Connection getReadReplicaConnection() throws SQLException {
+			readReplicaConnections++;
+			final Connection connection = getConnection();
+			openReadReplicaConnections.add( connection );
+			return connection;
+		}
+
+		@Override
+		public void closeReadReplicaConnection(Connection connection) throws SQLException {
+			openReadReplicaConnections.remove( connection );
+			closeConnection( connection );
+		}
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_replica_item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "Archive" )
+	@Table( name = "t_replica_archive" )
+	public static class Archive {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
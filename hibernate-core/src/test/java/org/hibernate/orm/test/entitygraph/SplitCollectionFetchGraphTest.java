@@ -0,0 +1,284 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Collections fetched by an entity graph and loaded by secondary selects
+ *
+ * @see HibernateHints#HINT_SPLIT_COLLECTION_FETCH
+ */
+@DomainModel(annotatedClasses = {
+		SplitCollectionFetchGraphTest.Owner.class,
+		SplitCollectionFetchGraphTest.Thing.class,
+		SplitCollectionFetchGraphTest.Tag.class
+})
+@SessionFactory( useCollectingStatementInspector = true )
+public class SplitCollectionFetchGraphTest {
+
+	private static final int OWNERS = 5;
+
+	@Test
+	public void testMultipleBags(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final EntityGraph<Owner> graph = session.createEntityGraph( Owner.class );
+			graph.addAttributeNodes( "things", "tags" );
+
+			final List<Owner> owners = session.createQuery( "from Owner o order by o.id", Owner.class )
+					.setHint( GraphSemantic.FETCH.getJpaHintName(), graph )
+					.setHint( HibernateHints.HINT_SPLIT_COLLECTION_FETCH, true )
+					.list();
+			assertThat( owners ).hasSize( OWNERS );
+
+			// the owners + one select per collection role
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( " join " );
+
+			for ( Owner owner : owners ) {
+				assertThat( Hibernate.isInitialized( owner.getThings() ) ).isTrue();
+				assertThat( Hibernate.isInitialized( owner.getTags() ) ).isTrue();
+				assertThat( owner.getThings() ).hasSize( 2 );
+				assertThat( owner.getTags() ).hasSize( 3 );
+			}
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testPagination(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final EntityGraph<Owner> graph = session.createEntityGraph( Owner.class );
+			graph.addAttributeNodes( "things" );
+
+			final List<Owner> page = session.createQuery( "from Owner o order by o.id", Owner.class )
+					.setHint( GraphSemantic.FETCH.getJpaHintName(), graph )
+					.setHint( HibernateHints.HINT_SPLIT_COLLECTION_FETCH, true )
+					.setFirstResult( 1 )
+					.setMaxResults( 2 )
+					.list();
+			assertThat( page ).extracting( Owner::getId ).containsExactly( 2, 3 );
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+			for ( Owner owner : page ) {
+				assertThat( Hibernate.isInitialized( owner.getThings() ) ).isTrue();
+				assertThat( owner.getThings() ).hasSize( 2 );
+			}
+			// only the collections of the page were loaded
+			assertThat( session.getPersistenceContextInternal().getCollectionEntriesSize() ).isEqualTo( 4 );
+		} );
+	}
+
+	@Test
+	public void testNestedCollectionStaysJoined(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final EntityGraph<Thing> graph = session.createEntityGraph( Thing.class );
+			graph.addSubgraph( "owner" ).addAttributeNodes( "tags" );
+
+			// one thing per owner, so that the rows of the tags of an owner are not repeated
+			final List<Thing> things = session.createQuery( "from Thing t where t.name like 'first%' order by t.id", Thing.class )
+					.setHint( GraphSemantic.FETCH.getJpaHintName(), graph )
+					.setHint( HibernateHints.HINT_SPLIT_COLLECTION_FETCH, true )
+					.list();
+			assertThat( things ).hasSize( OWNERS );
+
+			// the owners of the things are not registered for secondary
+			// selects, so their collection is still joined
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			for ( Thing thing : things ) {
+				assertThat( Hibernate.isInitialized( thing.getOwner().getTags() ) ).isTrue();
+				assertThat( thing.getOwner().getTags() ).hasSize( 3 );
+			}
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final EntityGraph<Owner> graph = session.createEntityGraph( Owner.class );
+			graph.addAttributeNodes( "things" );
+
+			final List<Owner> owners = new ArrayList<>();
+			try ( ScrollableResults<Owner> results = session.createQuery( "from Owner o order by o.id", Owner.class )
+					.setHint( GraphSemantic.FETCH.getJpaHintName(), graph )
+					.setHint( HibernateHints.HINT_SPLIT_COLLECTION_FETCH, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					owners.add( results.get() );
+				}
+			}
+			assertThat( owners ).hasSize( OWNERS );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( " join " );
+
+			assertThat( owners.get( 0 ).getThings() ).hasSize( 2 );
+			for ( Owner owner : owners ) {
+				assertThat( Hibernate.isInitialized( owner.getThings() ) ).isTrue();
+			}
+			// the scroll + one select for the collections of all owners
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		} );
+	}
+
+	@BeforeEach
+	void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= OWNERS; i++ ) {
+				final Owner owner = new Owner( i, "Owner #" + i );
+				session.persist( owner );
+				session.persist( new Thing( i * 10, "first thing of #" + i, owner ) );
+				session.persist( new Thing( i * 10 + 1, "second thing of #" + i, owner ) );
+				session.persist( new Tag( i * 10, "first tag of #" + i, owner ) );
+				session.persist( new Tag( i * 10 + 1, "second tag of #" + i, owner ) );
+				session.persist( new Tag( i * 10 + 2, "third tag of #" + i, owner ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Tag" ).executeUpdate();
+			session.createMutationQuery( "delete from Thing" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Owner" )
+	@Table( name = "t_split_owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		@OneToMany( mappedBy = "owner" )
+		private List<Thing> things = new ArrayList<>();
+
+		@OneToMany( mappedBy = "owner" )
+		private List<Tag> tags = new ArrayList<>();
+
+		private Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Thing> getThings() {
+			return things;
+		}
+
+		public List<Tag> getTags() {
+			return tags;
+		}
+	}
+
+	@Entity( name = "Thing" )
+	@Table( name = "t_split_thing" )
+	public static class Thing {
+		@Id
+		private Integer id;
+		private String name;
+
+		@ManyToOne
+		private Owner owner;
+
+		private Thing() {
+		}
+
+		public Thing(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+
+	@Entity( name = "Tag" )
+	@Table( name = "t_split_tag" )
+	public static class Tag {
+		@Id
+		private Integer id;
+		private String name;
+
+		@ManyToOne
+		private Owner owner;
+
+		private Tag() {
+		}
+
+		public Tag(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
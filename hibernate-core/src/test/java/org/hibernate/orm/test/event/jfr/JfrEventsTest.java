@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.event.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.event.jfr.internal.JdbcSelectExecutionEvent;
+import org.hibernate.event.jfr.internal.QueryExecutionEvent;
+import org.hibernate.event.jfr.internal.SessionClosedEvent;
+import org.hibernate.event.jfr.internal.SessionFlushEvent;
+import org.hibernate.event.jfr.internal.SessionOpenEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The Java Flight Recorder events emitted by Hibernate
+ */
+@DomainModel( annotatedClasses = JfrEventsTest.Item.class )
+@SessionFactory
+public class JfrEventsTest {
+
+	@Test
+	public void testEvents(SessionFactoryScope scope) throws Exception {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( SessionOpenEvent.NAME ).withoutThreshold();
+			recording.enable( SessionClosedEvent.NAME ).withoutThreshold();
+			recording.enable( SessionFlushEvent.NAME ).withoutThreshold();
+			recording.enable( QueryExecutionEvent.NAME ).withoutThreshold();
+			recording.enable( JdbcSelectExecutionEvent.NAME ).withoutThreshold();
+			recording.start();
+
+			scope.inTransaction( (session) -> session.persist( new Item( 1, "first" ) ) );
+			scope.inTransaction( (session) -> session.createQuery( "from Item", Item.class ).getResultList() );
+
+			recording.stop();
+			final Path file = Files.createTempFile( "hibernate", ".jfr" );
+			try {
+				recording.dump( file );
+				events = RecordingFile.readAllEvents( file );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+		finally {
+			scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+		}
+
+		final List<String> names = events.stream()
+				.map( (event) -> event.getEventType().getName() )
+				.collect( Collectors.toList() );
+		assertThat( names ).contains(
+				SessionOpenEvent.NAME,
+				SessionClosedEvent.NAME,
+				SessionFlushEvent.NAME,
+				QueryExecutionEvent.NAME,
+				JdbcSelectExecutionEvent.NAME
+		);
+		assertThat( events )
+				.filteredOn( (event) -> event.getEventType().getName().equals( QueryExecutionEvent.NAME ) )
+				.extracting( (event) -> event.getString( "query" ) )
+				.contains( "from Item" );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_jfr_item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AutoFlushSkipUnreachableSpacesTest.Parent.class,
+		AutoFlushSkipUnreachableSpacesTest.Child.class,
+		AutoFlushSkipUnreachableSpacesTest.Unrelated.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.AUTO_FLUSH_SKIP_UNREACHABLE_SPACES, value = "true"))
+@SessionFactory
+public class AutoFlushSkipUnreachableSpacesTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Parent( 1L ) );
+			session.persist( new Unrelated( 1L ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+			session.createMutationQuery( "delete from Unrelated" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUnreachableQuerySpaces(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent parent = session.find( Parent.class, 1L );
+			final Child child = new Child( 1L, parent );
+			parent.children.add( child );
+
+			assertThat( session.createQuery( "from Unrelated", Unrelated.class ).getResultList() ).hasSize( 1 );
+			// the session was not flushed, so the child was not cascaded to yet
+			assertThat( session.contains( child ) ).isFalse();
+
+			assertThat( session.createQuery( "from Child", Child.class ).getResultList() ).containsExactly( child );
+			assertThat( session.contains( child ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testReachableQuerySpaces(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent parent = session.find( Parent.class, 1L );
+			parent.name = "changed";
+
+			assertThat(
+					session.createQuery( "select p.name from Parent p", String.class ).getSingleResult()
+			).isEqualTo( "changed" );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Unrelated")
+	public static class Unrelated {
+		@Id
+		private Long id;
+
+		public Unrelated() {
+		}
+
+		public Unrelated(Long id) {
+			this.id = id;
+		}
+	}
+}
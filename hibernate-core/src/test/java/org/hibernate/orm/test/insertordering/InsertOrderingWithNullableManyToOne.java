@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the dependencies of an association are taken into account
+ * even if the association is only set on some of the inserted entities.
+ */
+public class InsertOrderingWithNullableManyToOne extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Address.class, Person.class };
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			Person homeless = new Person();
+			session.persist( homeless );
+
+			for ( int i = 0; i < 2; i++ ) {
+				Address address = new Address();
+				Person person = new Person();
+				person.address = address;
+				session.persist( address );
+				session.persist( person );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Address (street,ID) values (?,?)", 2 ),
+				new Batch( "insert into Person (address_ID,name,ID) values (?,?,?)", 3 )
+		);
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		@Column(name = "ID", nullable = false)
+		@SequenceGenerator(name = "ID", sequenceName = "ADDRESS_SEQ")
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ID")
+		private Long id;
+
+		private String street;
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		@Column(name = "ID", nullable = false)
+		@SequenceGenerator(name = "ID", sequenceName = "ADDRESS_SEQ")
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ID")
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Address address;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Adaptive fetch sizing learns the fetch size of a query from the rows its executions returned
+ */
+@DomainModel( annotatedClasses = AdaptiveFetchSizeTest.Item.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.ADAPTIVE_FETCH_MIN_SIZE, value = "5" ),
+		@Setting( name = AvailableSettings.ADAPTIVE_FETCH_MAX_SIZE, value = "40" )
+} )
+public class AdaptiveFetchSizeTest {
+
+	private static final String QUERY = "from Item where category = :category";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 50; i++ ) {
+				session.persist( new Item( i, i <= 30 ? "large" : i <= 31 ? "single" : "other" ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFetchSizeFollowsRowCounts(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		executeQuery( scope, "large" );
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getAdaptiveFetchSize() ).isEqualTo( 31 );
+
+		for ( int i = 0; i < 20; i++ ) {
+			executeQuery( scope, "single" );
+		}
+		assertThat( queryStatistics.getAdaptiveFetchSize() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testTruncatedResultsAreNotRecorded(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		executeQuery( scope, "large" );
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getAdaptiveFetchSize() ).isEqualTo( 31 );
+
+		for ( int i = 0; i < 20; i++ ) {
+			scope.inTransaction( (session) -> {
+				try ( Stream<Item> stream = session.createSelectionQuery( QUERY, Item.class )
+						.setParameter( "category", "large" )
+						.getResultStream() ) {
+					assertThat( stream.findFirst() ).isPresent();
+				}
+				try ( ScrollableResults<Item> results = session.createSelectionQuery( QUERY, Item.class )
+						.setParameter( "category", "large" )
+						.scroll() ) {
+					assertThat( results.next() ).isTrue();
+				}
+				assertThat( session.createSelectionQuery( QUERY, Item.class )
+						.setParameter( "category", "large" )
+						.setMaxResults( 1 )
+						.getSingleResult() ).isNotNull();
+			} );
+		}
+		assertThat( queryStatistics.getAdaptiveFetchSize() ).isEqualTo( 31 );
+	}
+
+	@Test
+	public void testBounds() {
+		final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
+		assertThat( adaptiveFetchSize.getFetchSize( 10, 100, null ) ).isNull();
+
+		adaptiveFetchSize.recordRowCount( 1000 );
+		assertThat( adaptiveFetchSize.getFetchSize( 10, 100, null ) ).isEqualTo( 100 );
+		assertThat( adaptiveFetchSize.getFetchSize( 10, 100, 20 ) ).isEqualTo( 20 );
+
+		adaptiveFetchSize.recordRowCount( 0 );
+		assertThat( adaptiveFetchSize.getFetchSize( 10, 1000, null ) ).isEqualTo( 751 );
+	}
+
+	private static void executeQuery(SessionFactoryScope scope, String category) {
+		scope.inTransaction( (session) -> session.createSelectionQuery( QUERY, Item.class )
+				.setParameter( "category", category )
+				.getResultList() );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_fetch_item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String category;
+
+		private Item() {
+		}
+
+		public Item(Integer id, String category) {
+			this.id = id;
+			this.category = category;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Acquisition of the connection of a resource-local transaction when the first
+ * statement is executed
+ *
+ * @see AvailableSettings#DEFER_TRANSACTION_BEGIN
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.DEFER_TRANSACTION_BEGIN, value = "true" ),
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = DeferredTransactionBeginTest.Item.class )
+@SessionFactory
+public class DeferredTransactionBeginTest {
+
+	@Test
+	public void testTransactionWithoutStatement(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.getTransaction().isActive() ).isTrue();
+			// served from the second-level cache
+			assertThat( session.find( Item.class, 1 ).getName() ).isEqualTo( "item #1" );
+		} );
+		assertThat( statistics.getConnectCount() ).isZero();
+
+		scope.inSession( (session) -> {
+			session.getTransaction().begin();
+			session.getTransaction().rollback();
+		} );
+		assertThat( statistics.getConnectCount() ).isZero();
+	}
+
+	@Test
+	public void testTransactionWithStatements(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createQuery( "from Item", Item.class ).getResultList() ).hasSize( 2 );
+			assertThat( session.createQuery( "select count(*) from Item", Long.class ).getSingleResult() )
+					.isEqualTo( 2L );
+		} );
+		assertThat( statistics.getConnectCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void testReadOnlyTransaction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( (session) -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			assertThat( session.createQuery( "from Item", Item.class ).getResultList() ).hasSize( 2 );
+			// the read-only transaction keeps its connection until it completes
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected() ).isTrue();
+			assertThat( session.createQuery( "select count(*) from Item", Long.class ).getSingleResult() )
+					.isEqualTo( 2L );
+			assertThat( session.getTransaction().isActive() ).isTrue();
+			session.getTransaction().commit();
+		} );
+		assertThat( statistics.getConnectCount() ).isEqualTo( 1L );
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Item( 1, "item #1" ) );
+			session.persist( new Item( 2, "item #2" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_deferred_item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
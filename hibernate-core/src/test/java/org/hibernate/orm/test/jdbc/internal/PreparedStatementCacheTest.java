@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reuse of prepared statements by a session holding a connection
+ *
+ * @see AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "4" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = PreparedStatementCacheTest.Item.class )
+@SessionFactory
+public class PreparedStatementCacheTest {
+
+	@Test
+	public void testStatementReuse(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final String name = session.createQuery( "select i.name from Item i where i.id = :id", String.class )
+						.setParameter( "id", i )
+						.getSingleResult();
+				assertThat( name ).isEqualTo( "item #" + i );
+			}
+			// the parameters are reset
+			final Long count = session.createQuery( "select count(*) from Item i", Long.class )
+					.setMaxResults( 1 )
+					.getSingleResult();
+			assertThat( count ).isEqualTo( 3L );
+			assertThat( session.createQuery( "from Item i order by i.id", Item.class ).getResultList() )
+					.hasSize( 3 );
+		} );
+		// one statement per distinct SQL
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 3L );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createQuery( "from Item i order by i.id", Item.class ).getResultList() )
+					.hasSize( 3 );
+		} );
+		// the cache does not outlive the connection
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 4L );
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i, "item #" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_statement_cache_item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.spi.SqlExecutionEvent;
+import org.hibernate.engine.jdbc.spi.SqlExecutionListener;
+import org.hibernate.engine.jdbc.spi.SqlExecutionTracer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Recording of the executions of SQL statements
+ *
+ * @see AvailableSettings#SQL_EXECUTION_TRACE_SIZE
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.SQL_EXECUTION_TRACE_SIZE, value = "4" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+		}
+)
+@DomainModel( annotatedClasses = SqlExecutionTracerTest.Item.class )
+@SessionFactory
+public class SqlExecutionTracerTest {
+
+	@Test
+	public void testQueryExecution(SessionFactoryScope scope) {
+		final SqlExecutionTracer tracer = scope.getSessionFactory().getJdbcServices().getSqlExecutionTracer();
+		scope.inTransaction( (session) -> {
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+		} );
+
+		final List<SqlExecutionEvent> inserts = tracer.getRecentExecutions();
+		assertThat( inserts ).hasSize( 1 );
+		assertThat( inserts.get( 0 ).getSql() ).containsIgnoringCase( "insert" );
+		assertThat( inserts.get( 0 ).getBatchSize() ).isEqualTo( 2 );
+		assertThat( inserts.get( 0 ).getSource() ).isNotNull();
+
+		tracer.clear();
+		scope.inTransaction( (session) -> {
+			assertThat( session.createQuery( "from Item", Item.class ).getResultList() ).hasSize( 2 );
+		} );
+
+		final List<SqlExecutionEvent> selects = tracer.getRecentExecutions();
+		assertThat( selects ).hasSize( 1 );
+		final SqlExecutionEvent select = selects.get( 0 );
+		assertThat( select.getSource() ).isEqualTo( "from Item" );
+		assertThat( select.getRowCount() ).isEqualTo( 2L );
+		assertThat( select.getExecuteNanos() ).isPositive();
+		assertThat( select.getBatchSize() ).isZero();
+	}
+
+	@Test
+	public void testListener(SessionFactoryScope scope) {
+		final SqlExecutionTracer tracer = scope.getSessionFactory().getJdbcServices().getSqlExecutionTracer();
+		final List<SqlExecutionEvent> events = new ArrayList<>();
+		final SqlExecutionListener listener = events::add;
+		tracer.addListener( listener );
+		try {
+			scope.inTransaction( (session) -> {
+				for ( int i = 1; i <= 6; i++ ) {
+					session.createQuery( "select count(*) from Item", Long.class ).getSingleResult();
+				}
+			} );
+		}
+		finally {
+			tracer.removeListener( listener );
+		}
+		assertThat( events ).hasSize( 6 );
+		// the buffer only keeps the most recent executions
+		assertThat( tracer.getRecentExecutions() ).hasSize( 4 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+		scope.getSessionFactory().getJdbcServices().getSqlExecutionTracer().clear();
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_traced_item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.loading;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reuse of the load plans of loads by id affected by enabled filters
+ */
+@DomainModel( annotatedClasses = SingleIdLoadPlanCacheTest.Account.class )
+@SessionFactory
+public class SingleIdLoadPlanCacheTest {
+
+	@Test
+	public void testFilteredLoadPlanReuse(SessionFactoryScope scope) {
+		final AbstractEntityPersister entityDescriptor = (AbstractEntityPersister) scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Account.class );
+		final SingleIdEntityLoaderStandardImpl<?> loader =
+				(SingleIdEntityLoaderStandardImpl<?>) entityDescriptor.getSingleIdEntityLoader();
+		final int initiallyGenerated = loader.getNonReusablePlansGenerated().get();
+
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( (session) -> {
+				session.enableFilter( "tenantFilter" ).setParameter( "tenantId", "acme" );
+				assertThat( session.find( Account.class, 1 ) ).isNotNull();
+				assertThat( session.find( Account.class, 2 ) ).isNull();
+			} );
+		}
+		// one plan built for all loads with the same filter parameters
+		assertThat( loader.getNonReusablePlansGenerated().get() ).isEqualTo( initiallyGenerated + 1 );
+
+		scope.inTransaction( (session) -> {
+			session.enableFilter( "tenantFilter" ).setParameter( "tenantId", "initech" );
+			assertThat( session.find( Account.class, 1 ) ).isNull();
+			assertThat( session.find( Account.class, 2 ) ).isNotNull();
+		} );
+		// the filter parameter values are part of the plan
+		assertThat( loader.getNonReusablePlansGenerated().get() ).isEqualTo( initiallyGenerated + 2 );
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Account( 1, "acme" ) );
+			session.persist( new Account( 2, "initech" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Entity( name = "Account" )
+	@Table( name = "t_plan_cache_account" )
+	@FilterDef( name = "tenantFilter", parameters = @ParamDef( name = "tenantId", type = String.class ) )
+	@Filter( name = "tenantFilter", condition = "tenantId = :tenantId" )
+	public static class Account {
+		@Id
+		private Integer id;
+		private String tenantId;
+
+		private Account() {
+		}
+
+		public Account(Integer id, String tenantId) {
+			this.id = id;
+			this.tenantId = tenantId;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTenantId() {
+			return tenantId;
+		}
+	}
+}
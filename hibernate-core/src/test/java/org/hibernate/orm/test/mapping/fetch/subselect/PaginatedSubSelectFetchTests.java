@@ -0,0 +1,285 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.fetch.subselect;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SubselectFetch;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Subselect fetching of the collections of owners loaded by paginated and scrolled queries
+ */
+@DomainModel(annotatedClasses = {
+		PaginatedSubSelectFetchTests.Owner.class,
+		PaginatedSubSelectFetchTests.Thing.class,
+		PaginatedSubSelectFetchTests.CodedOwner.class,
+		PaginatedSubSelectFetchTests.CodedThing.class
+})
+@SessionFactory( useCollectingStatementInspector = true )
+public class PaginatedSubSelectFetchTests {
+
+	private static final int OWNERS = 5;
+
+	@Test
+	public void testPagination(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final List<Owner> page = session.createQuery( "from Owner o order by o.id", Owner.class )
+					.setFirstResult( 1 )
+					.setMaxResults( 2 )
+					.list();
+			assertThat( page ).extracting( Owner::getId ).containsExactly( 2, 3 );
+
+			assertThat( page.get( 0 ).getThings() ).hasSize( 2 );
+			assertThat( Hibernate.isInitialized( page.get( 1 ).getThings() ) ).isTrue();
+			assertThat( page.get( 1 ).getThings() ).hasSize( 2 );
+
+			// the page + one select for the collections of the page
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+			// only the owners of the page had their collections loaded
+			assertThat( session.getPersistenceContextInternal().getCollectionEntriesSize() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final List<Owner> owners = new ArrayList<>();
+			try ( ScrollableResults<Owner> results = session.createQuery( "from Owner o order by o.id", Owner.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( owners.size() < 3 && results.next() ) {
+					owners.add( results.get() );
+				}
+
+				assertThat( owners.get( 0 ).getThings() ).hasSize( 2 );
+				for ( Owner owner : owners ) {
+					assertThat( Hibernate.isInitialized( owner.getThings() ) ).isTrue();
+				}
+				// the scroll + one select for the collections of the owners read so far
+				assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+
+				assertThat( results.next() ).isTrue();
+				assertThat( results.get().getThings() ).hasSize( 2 );
+				assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+			}
+		} );
+	}
+
+	@Test
+	public void testScrollForgetsEvictedOwners(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			SubselectFetch subselectFetch = null;
+			try ( ScrollableResults<Owner> results = session.createQuery( "from Owner o order by o.id", Owner.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					final Owner owner = results.get();
+					final EntityKey ownerKey = session.getPersistenceContextInternal().getEntry( owner ).getEntityKey();
+					subselectFetch = session.getPersistenceContextInternal().getBatchFetchQueue().getSubselect( ownerKey );
+					assertThat( subselectFetch.getResultingEntityKeys() ).containsExactly( ownerKey );
+					session.evict( owner );
+				}
+			}
+			assertThat( subselectFetch ).isNotNull();
+			assertThat( subselectFetch.getResultingEntityKeys() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testPaginationByReferencedProperty(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final List<CodedOwner> page = session.createQuery( "from CodedOwner o order by o.id", CodedOwner.class )
+					.setFirstResult( 1 )
+					.setMaxResults( 2 )
+					.list();
+			assertThat( page ).extracting( CodedOwner::getId ).containsExactly( 2, 3 );
+
+			assertThat( page.get( 0 ).getThings() ).hasSize( 2 );
+			assertThat( Hibernate.isInitialized( page.get( 1 ).getThings() ) ).isTrue();
+			assertThat( page.get( 1 ).getThings() ).extracting( CodedThing::getName )
+					.containsExactlyInAnyOrder( "first thing of #3", "second thing of #3" );
+
+			// the page + one select for the collections of the page
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		} );
+	}
+
+	@BeforeEach
+	void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= OWNERS; i++ ) {
+				final Owner owner = new Owner( i, "Owner #" + i );
+				session.persist( owner );
+				session.persist( new Thing( i * 10, "first thing of #" + i, owner ) );
+				session.persist( new Thing( i * 10 + 1, "second thing of #" + i, owner ) );
+
+				final CodedOwner codedOwner = new CodedOwner( i, "owner-" + i );
+				session.persist( codedOwner );
+				session.persist( new CodedThing( i * 10, "first thing of #" + i, codedOwner ) );
+				session.persist( new CodedThing( i * 10 + 1, "second thing of #" + i, codedOwner ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Thing" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+			session.createMutationQuery( "delete from CodedThing" ).executeUpdate();
+			session.createMutationQuery( "delete from CodedOwner" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Owner" )
+	@Table( name = "t_sub_fetch_owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		@OneToMany( mappedBy = "owner", fetch = FetchType.LAZY )
+		@Fetch( FetchMode.SUBSELECT )
+		private List<Thing> things = new ArrayList<>();
+
+		private Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Thing> getThings() {
+			return things;
+		}
+	}
+
+	@Entity( name = "Thing" )
+	@Table( name = "t_sub_fetch_thing" )
+	public static class Thing {
+		@Id
+		private Integer id;
+		private String name;
+
+		@ManyToOne
+		private Owner owner;
+
+		private Thing() {
+		}
+
+		public Thing(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "CodedOwner" )
+	@Table( name = "t_sub_fetch_coded_owner" )
+	public static class CodedOwner implements Serializable {
+		@Id
+		private Integer id;
+		@Column( unique = true )
+		private String code;
+
+		@OneToMany( mappedBy = "owner", fetch = FetchType.LAZY )
+		@Fetch( FetchMode.SUBSELECT )
+		private List<CodedThing> things = new ArrayList<>();
+
+		private CodedOwner() {
+		}
+
+		public CodedOwner(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public List<CodedThing> getThings() {
+			return things;
+		}
+	}
+
+	@Entity( name = "CodedThing" )
+	@Table( name = "t_sub_fetch_coded_thing" )
+	public static class CodedThing {
+		@Id
+		private Integer id;
+		private String name;
+
+		@ManyToOne
+		@JoinColumn( name = "owner_code", referencedColumnName = "code" )
+		private CodedOwner owner;
+
+		private CodedThing() {
+		}
+
+		public CodedThing(Integer id, String name, CodedOwner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.mapping.mutability.attribute;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#ASSUME_IMMUTABLE_JAVA_TYPES}
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.ASSUME_IMMUTABLE_JAVA_TYPES, value = "java.util.Date, byte[]" ) )
+@DomainModel( annotatedClasses = AssumedImmutableJavaTypesTests.TheEntity.class )
+@SessionFactory
+public class AssumedImmutableJavaTypesTests {
+	private static final Instant START = Instant.ofEpochMilli( 1676049527493L );
+
+	@Test
+	public void testLoadedStateIsShared(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new TheEntity( 1, Date.from( START ), new byte[] { 1, 2, 3 } ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final TheEntity theEntity = session.find( TheEntity.class, 1 );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( theEntity );
+			final EntityPersister persister = entry.getPersister();
+			final Object[] loadedState = entry.getLoadedState();
+			assertThat( loadedState[persister.getEntityMetamodel().getPropertyIndex( "theDate" )] ).isSameAs( theEntity.theDate );
+			assertThat( loadedState[persister.getEntityMetamodel().getPropertyIndex( "theBytes" )] ).isSameAs( theEntity.theBytes );
+		} );
+	}
+
+	@Test
+	public void testReassignedValueIsUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new TheEntity( 1, Date.from( START ), new byte[] { 1, 2, 3 } ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final TheEntity theEntity = session.find( TheEntity.class, 1 );
+			theEntity.theDate = Date.from( Instant.EPOCH );
+			theEntity.theBytes = new byte[] { 4 };
+		} );
+
+		scope.inTransaction( (session) -> {
+			final TheEntity theEntity = session.find( TheEntity.class, 1 );
+			assertThat( theEntity.theDate.getTime() ).isEqualTo( Instant.EPOCH.toEpochMilli() );
+			assertThat( theEntity.theBytes ).containsExactly( 4 );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete TheEntity" ).executeUpdate() );
+	}
+
+	@Entity( name = "TheEntity" )
+	@Table( name = "entity_assumed_immutable" )
+	public static class TheEntity {
+		@Id
+		private Integer id;
+		private Date theDate;
+		private byte[] theBytes;
+
+		private TheEntity() {
+			// for use by Hibernate
+		}
+
+		public TheEntity(Integer id, Date theDate, byte[] theBytes) {
+			this.id = id;
+			this.theDate = theDate;
+			this.theBytes = theBytes;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caching of natural-ids for which no entity exists, and resolution of
+ * multi-loads from the natural-id cache
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+				@Setting( name = AvailableSettings.NATURAL_ID_CACHE_NEGATIVE_TTL, value = "600" ),
+		}
+)
+@DomainModel( annotatedClasses = NaturalIdNegativeCachingTests.Country.class )
+@SessionFactory
+public class NaturalIdNegativeCachingTests {
+
+	@Test
+	public void testMissingNaturalIdIsCached(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.bySimpleNaturalId( Country.class ).load( "XX" ) ).isNull();
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.bySimpleNaturalId( Country.class ).load( "XX" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Country.class ).getReference( "XX" ) ).isNull();
+		} );
+		// answered from the natural-id cache
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( (session) -> session.persist( new Country( 1, "XX", "Atlantis" ) ) );
+
+		scope.inTransaction( (session) -> {
+			final Country country = session.bySimpleNaturalId( Country.class ).load( "XX" );
+			assertThat( country ).isNotNull();
+			assertThat( country.getName() ).isEqualTo( "Atlantis" );
+		} );
+	}
+
+	@Test
+	public void testMissBeforeCommitOfInsert(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Country( 1, "YY", "Lemuria" ) );
+			session.flush();
+
+			// a lookup which does not see the uncommitted entity caches it as not found
+			scope.inTransaction( (other) -> assertThat( other.bySimpleNaturalId( Country.class ).load( "YY" ) ).isNull() );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final Country country = session.bySimpleNaturalId( Country.class ).load( "YY" );
+			assertThat( country ).isNotNull();
+			assertThat( country.getName() ).isEqualTo( "Lemuria" );
+		} );
+	}
+
+	@Test
+	public void testMultiLoadFromCache(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Country( 1, "FR", "France" ) );
+			session.persist( new Country( 2, "IT", "Italy" ) );
+		} );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final List<Country> countries = session.byMultipleNaturalId( Country.class ).multiLoad( "FR", "IT", "XX" );
+			assertThat( countries ).extracting( Country::getName ).containsExactlyInAnyOrder( "France", "Italy" );
+		} );
+
+		final long statementCount = statistics.getPrepareStatementCount();
+		scope.inTransaction( (session) -> {
+			final List<Country> countries = session.byMultipleNaturalId( Country.class ).multiLoad( "FR", "IT", "XX" );
+			assertThat( countries ).extracting( Country::getName ).containsExactlyInAnyOrder( "France", "Italy" );
+		} );
+		// the natural-ids and the entities were all resolved from the second-level cache
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( statementCount );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Country" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Entity( name = "Country" )
+	@Table( name = "t_negative_cache_country" )
+	@NaturalIdCache
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Country {
+		@Id
+		private Integer id;
+		@NaturalId
+		private String code;
+		private String name;
+
+		private Country() {
+		}
+
+		public Country(Integer id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Results assembled in parallel keep the order of the rows
+ */
+@DomainModel(
+		annotatedClasses = ParallelAssemblyTest.Item.class
+)
+@SessionFactory
+public class ParallelAssemblyTest {
+
+	private static final int ITEMS = 1000;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= ITEMS; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Item" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testInstantiationIgnoresHint(SessionFactoryScope scope) {
+		// the constructor is application code, so the results are assembled sequentially
+		scope.inTransaction(
+				session -> {
+					final List<ItemDto> results = session.createSelectionQuery(
+									"select new " + ItemDto.class.getName() + "( i.id, i.name ) from Item i order by i.id",
+									ItemDto.class
+							)
+							.setHint( HibernateHints.HINT_PARALLEL_ASSEMBLY, true )
+							.getResultList();
+					assertThat( results ).hasSize( ITEMS );
+					for ( int i = 0; i < ITEMS; i++ ) {
+						assertThat( results.get( i ).id ).isEqualTo( i + 1 );
+						assertThat( results.get( i ).name ).isEqualTo( "item " + ( i + 1 ) );
+						assertThat( results.get( i ).thread ).isSameAs( Thread.currentThread() );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testTuples(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Object[]> results = session.createSelectionQuery(
+									"select i.id, i.name from Item i order by i.id",
+									Object[].class
+							)
+							.setHint( HibernateHints.HINT_PARALLEL_ASSEMBLY, true )
+							.getResultList();
+					assertThat( results ).hasSize( ITEMS );
+					for ( int i = 0; i < ITEMS; i++ ) {
+						assertThat( results.get( i ) ).containsExactly( i + 1, "item " + ( i + 1 ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testEntitiesIgnoreHint(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Item> results = session.createSelectionQuery( "from Item i order by i.id", Item.class )
+							.setHint( HibernateHints.HINT_PARALLEL_ASSEMBLY, true )
+							.getResultList();
+					assertThat( results ).hasSize( ITEMS );
+					assertThat( session.contains( results.get( ITEMS - 1 ) ) ).isTrue();
+				}
+		);
+	}
+
+	public static class ItemDto {
+		private final Integer id;
+		private final String name;
+		private final Thread thread;
+
+		public ItemDto(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+			this.thread = Thread.currentThread();
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "ITEM_TABLE")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.query.QueryBatch;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Execution of several selection queries as a {@link QueryBatch}
+ */
+@DomainModel( annotatedClasses = { QueryBatchTest.Author.class, QueryBatchTest.Book.class } )
+@SessionFactory( useCollectingStatementInspector = true )
+public class QueryBatchTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author gavin = new Author( 1, "Gavin" );
+			final Author steve = new Author( 2, "Steve" );
+			session.persist( gavin );
+			session.persist( steve );
+			session.persist( new Book( 1, "Hibernate in Action", gavin ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", gavin ) );
+			session.persist( new Book( 3, "Hibernate Search", steve ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<Author> authorQuery =
+					session.createSelectionQuery( "from Author where name = :name", Author.class )
+							.setParameter( "name", "Gavin" );
+			final SelectionQuery<Book> bookQuery =
+					session.createQuery( "from Book b where b.author.id = :id order by b.id", Book.class )
+							.setParameter( "id", 1 );
+			final SelectionQuery<Long> countQuery =
+					session.createSelectionQuery( "select count(*) from Book", Long.class );
+
+			final QueryBatch batch = session.createQueryBatch()
+					.add( authorQuery )
+					.add( bookQuery )
+					.add( countQuery );
+
+			final List<Author> authors = batch.getResultList( authorQuery );
+			final List<Book> books = batch.getResultList( bookQuery );
+			assertThat( authors ).hasSize( 1 );
+			assertThat( books ).extracting( Book::getTitle )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+			assertThat( batch.getResultList( countQuery ) ).containsExactly( 3L );
+			assertThat( batch.getResultLists() ).hasSize( 3 );
+
+			// the results are assembled into the same persistence context
+			assertThat( books.get( 0 ).getAuthor() ).isSameAs( authors.get( 0 ) );
+			assertThat( session.get( Author.class, 1 ) ).isSameAs( authors.get( 0 ) );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsMultiStatementSelects.class )
+	public void testMultiStatement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<Author> authorQuery =
+					session.createSelectionQuery( "from Author where name = :name", Author.class )
+							.setParameter( "name", "Gavin" );
+			final SelectionQuery<Book> bookQuery =
+					session.createQuery( "from Book b where b.author.id = :id order by b.id", Book.class )
+							.setParameter( "id", 1 );
+			final SelectionQuery<Long> countQuery =
+					session.createSelectionQuery( "select count(*) from Book where title like :title", Long.class )
+							.setParameter( "title", "Hibernate%" );
+
+			statementInspector.clear();
+			final QueryBatch batch = session.createQueryBatch()
+					.add( authorQuery )
+					.add( bookQuery )
+					.add( countQuery );
+			assertThat( batch.getResultList( authorQuery ) ).hasSize( 1 );
+			assertThat( batch.getResultList( bookQuery ) ).hasSize( 2 );
+			assertThat( batch.getResultList( countQuery ) ).containsExactly( 2L );
+
+			// a single statement, with the parameters of every query bound
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			final String[] statements = statementInspector.getSqlQueries().get( 0 ).split( ";" );
+			assertThat( statements ).hasSize( 3 );
+			for ( String statement : statements ) {
+				assertThat( statement ).contains( "?" );
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsMultiStatementSelects.class )
+	public void testCacheableQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<Author> authorQuery =
+					session.createSelectionQuery( "from Author where name = :name", Author.class )
+							.setParameter( "name", "Gavin" )
+							.setCacheable( true );
+			final SelectionQuery<Book> bookQuery =
+					session.createQuery( "from Book b where b.author.id = :id order by b.id", Book.class )
+							.setParameter( "id", 1 );
+			final SelectionQuery<Book> otherBookQuery =
+					session.createQuery( "from Book b where b.author.id = :id order by b.id", Book.class )
+							.setParameter( "id", 2 );
+
+			statementInspector.clear();
+			final QueryBatch batch = session.createQueryBatch()
+					.add( authorQuery )
+					.add( bookQuery )
+					.add( otherBookQuery );
+			assertThat( batch.getResultList( authorQuery ) ).hasSize( 1 );
+			assertThat( batch.getResultList( bookQuery ) ).hasSize( 2 );
+			assertThat( batch.getResultList( otherBookQuery ) ).hasSize( 1 );
+
+			// the cacheable query is executed by itself
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+			assertThat( statementInspector.getSqlQueries() )
+					.filteredOn( (sql) -> sql.contains( ";" ) )
+					.hasSize( 1 );
+		} );
+	}
+
+	@Test
+	public void testUsage(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<Author> authorQuery =
+					session.createSelectionQuery( "from Author", Author.class );
+			final QueryBatch batch = session.createQueryBatch().add( authorQuery );
+			assertThat( batch.getResultList( authorQuery ) ).hasSize( 2 );
+
+			final SelectionQuery<Book> bookQuery = session.createSelectionQuery( "from Book", Book.class );
+			assertThatThrownBy( () -> batch.getResultList( bookQuery ) )
+					.isInstanceOf( IllegalArgumentException.class );
+			assertThatThrownBy( () -> batch.add( bookQuery ) )
+					.isInstanceOf( IllegalStateException.class );
+		} );
+	}
+
+	@Test
+	public void testSessionStateIsRestored(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final FlushMode flushMode = session.getHibernateFlushMode();
+			final CacheMode cacheMode = session.getCacheMode();
+
+			final SelectionQuery<Author> authorQuery =
+					session.createSelectionQuery( "from Author", Author.class )
+							.setHibernateFlushMode( FlushMode.COMMIT )
+							.setCacheMode( CacheMode.IGNORE );
+			final SelectionQuery<Book> bookQuery =
+					session.createSelectionQuery( "from Book", Book.class )
+							.setCacheMode( CacheMode.GET );
+			final QueryBatch batch = session.createQueryBatch()
+					.add( authorQuery )
+					.add( bookQuery );
+			assertThat( batch.getResultList( authorQuery ) ).hasSize( 2 );
+			assertThat( batch.getResultList( bookQuery ) ).hasSize( 3 );
+
+			assertThat( session.getHibernateFlushMode() ).isEqualTo( flushMode );
+			assertThat( session.getCacheMode() ).isEqualTo( cacheMode );
+
+			assertThatThrownBy( () -> session.createQueryBatch().add( authorQuery ).add( authorQuery ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Entity( name = "Author" )
+	@Table( name = "t_batch_author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	@Table( name = "t_batch_book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		private Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Dynamic instantiation through non-public constructors with primitive parameters
+ */
+@DomainModel(annotatedClasses = DynamicInstantiationConstructorTest.Item.class)
+@SessionFactory
+public class DynamicInstantiationConstructorTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "first", 10 ) );
+			session.persist( new Item( 2, "second", 20 ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPrimitiveParameters(SessionFactoryScope scope) {
+		// executed twice, the second execution reusing the resolved constructor
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<ItemSummary> summaries = session.createSelectionQuery(
+						"select new " + ItemSummary.class.getName() + "( i.id, i.name, i.quantity ) from Item i order by i.id",
+						ItemSummary.class
+				).getResultList();
+				assertThat( summaries ).hasSize( 2 );
+				assertThat( summaries.get( 1 ).id ).isEqualTo( 2 );
+				assertThat( summaries.get( 1 ).name ).isEqualTo( "second" );
+				assertThat( summaries.get( 1 ).quantity ).isEqualTo( 20L );
+			} );
+		}
+	}
+
+	@Test
+	public void testConstructorException(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createSelectionQuery(
+						"select new " + FailingSummary.class.getName() + "( i.name ) from Item i",
+						FailingSummary.class
+				).getResultList()
+		).hasRootCauseInstanceOf( IllegalStateException.class ) );
+	}
+
+	public static class ItemSummary {
+		private final int id;
+		private final String name;
+		private final long quantity;
+
+		private ItemSummary(int id, String name, long quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	public static class FailingSummary {
+		public FailingSummary(String name) {
+			throw new IllegalStateException( "Cannot summarize " + name );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "ITEM_TABLE")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private long quantity;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, long quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+}
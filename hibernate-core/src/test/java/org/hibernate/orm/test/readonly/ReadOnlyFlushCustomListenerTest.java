@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A custom {@link FlushEntityEventListener} still sees read-only entities
+ */
+@DomainModel( annotatedClasses = ReadOnlyFlushCustomListenerTest.Sample.class )
+@SessionFactory
+@BootstrapServiceRegistry( integrators = ReadOnlyFlushCustomListenerTest.ListenerIntegrator.class )
+public class ReadOnlyFlushCustomListenerTest {
+	private static final List<Object> FLUSHED = new ArrayList<>();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Sample( 1L, "sample" ) ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Sample" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReadOnlyEntityIsFlushedToCustomListener(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Sample sample = session.get( Sample.class, 1L );
+			session.setReadOnly( sample, true );
+			FLUSHED.clear();
+
+			session.flush();
+			assertThat( FLUSHED ).containsExactly( sample );
+		} );
+	}
+
+	public static class ListenerIntegrator implements Integrator {
+		@Override
+		public void integrate(
+				Metadata metadata,
+				SessionFactoryImplementor sessionFactory,
+				SessionFactoryServiceRegistry serviceRegistry) {
+			serviceRegistry.getService( EventListenerRegistry.class ).appendListeners(
+					EventType.FLUSH_ENTITY,
+					new RecordingFlushEntityEventListener()
+			);
+		}
+
+		@Override
+		public void disintegrate(
+				SessionFactoryImplementor sessionFactory,
+				SessionFactoryServiceRegistry serviceRegistry) {
+		}
+	}
+
+	public static class RecordingFlushEntityEventListener implements FlushEntityEventListener {
+		@Override
+		public void onFlushEntity(FlushEntityEvent event) {
+			FLUSHED.add( event.getEntity() );
+		}
+	}
+
+	@Entity( name = "Sample" )
+	@Table( name = "t_ro_sample" )
+	public static class Sample {
+		@Id
+		private Long id;
+		private String name;
+
+		private Sample() {
+		}
+
+		public Sample(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
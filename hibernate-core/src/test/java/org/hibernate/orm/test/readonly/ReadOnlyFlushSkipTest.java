@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.io.Serializable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Read-only entities without collections are not visited by the flush,
+ * and are not deep-copied when assembled from the second-level cache
+ */
+@DomainModel( annotatedClasses = ReadOnlyFlushSkipTest.Reading.class )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+public class ReadOnlyFlushSkipTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Reading( 1L, "initial", "data" ) ) );
+		Reading.labelReads = 0;
+		CountingMutabilityPlan.deepCopies = 0;
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testFlushSkipsReadOnlyEntity(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Reading reading = session.get( Reading.class, 1L );
+			session.setReadOnly( reading, true );
+			reading.setLabel( "changed" );
+			Reading.labelReads = 0;
+
+			session.flush();
+			assertThat( Reading.labelReads ).isEqualTo( 0 );
+
+			// a modifiable entity is still dirty-checked
+			session.setReadOnly( reading, false );
+			Reading.labelReads = 0;
+			session.flush();
+			assertThat( Reading.labelReads ).isGreaterThan( 0 );
+		} );
+		scope.inTransaction( (session) -> assertThat( session.get( Reading.class, 1L ).getLabel() ).isEqualTo( "initial" ) );
+	}
+
+	@Test
+	public void testAlteredIdOfReadOnlyEntityIsDetected(SessionFactoryScope scope) {
+		scope.inSession( (session) -> {
+			session.beginTransaction();
+			try {
+				final Reading reading = session.get( Reading.class, 1L );
+				session.setReadOnly( reading, true );
+				reading.setId( 2L );
+				assertThatThrownBy( session::flush )
+						.isInstanceOf( HibernateException.class )
+						.hasMessageContaining( "was altered" );
+			}
+			finally {
+				if ( session.getTransaction().isActive() ) {
+					session.getTransaction().rollback();
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testCachedStateOfReadOnlyEntityIsNotCopied(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().contains( Reading.class, 1L ) ).isTrue();
+
+		scope.inTransaction( (session) -> {
+			session.setDefaultReadOnly( true );
+			CountingMutabilityPlan.deepCopies = 0;
+			final Reading reading = session.get( Reading.class, 1L );
+			assertThat( reading.getData() ).isEqualTo( "data" );
+			assertThat( session.isReadOnly( reading ) ).isTrue();
+			assertThat( CountingMutabilityPlan.deepCopies ).isEqualTo( 0 );
+		} );
+
+		scope.inTransaction( (session) -> {
+			CountingMutabilityPlan.deepCopies = 0;
+			final Reading reading = session.get( Reading.class, 1L );
+			assertThat( reading.getData() ).isEqualTo( "data" );
+			assertThat( session.isReadOnly( reading ) ).isFalse();
+			assertThat( CountingMutabilityPlan.deepCopies ).isGreaterThan( 0 );
+		} );
+	}
+
+	/**
+	 * A mutable plan which counts deep copies of the state
+	 */
+	public static class CountingMutabilityPlan implements MutabilityPlan<String> {
+		static int deepCopies;
+
+		@Override
+		public boolean isMutable() {
+			return true;
+		}
+
+		@Override
+		public String deepCopy(String value) {
+			deepCopies++;
+			return value;
+		}
+
+		@Override
+		public Serializable disassemble(String value, SharedSessionContract session) {
+			return value;
+		}
+
+		@Override
+		public String assemble(Serializable cached, SharedSessionContract session) {
+			return (String) cached;
+		}
+	}
+
+	@Entity( name = "Reading" )
+	@Table( name = "t_ro_reading" )
+	@Access( AccessType.PROPERTY )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Reading {
+		static int labelReads;
+
+		private Long id;
+		private String label;
+		private String data;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, String label, String data) {
+			this.id = id;
+			this.label = label;
+			this.data = data;
+		}
+
+		@Id
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getLabel() {
+			labelReads++;
+			return label;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+
+		@Mutability( CountingMutabilityPlan.class )
+		public String getData() {
+			return data;
+		}
+
+		public void setData(String data) {
+			this.data = data;
+		}
+	}
+}
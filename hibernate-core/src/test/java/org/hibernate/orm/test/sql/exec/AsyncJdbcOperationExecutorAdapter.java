@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.exec.spi.AsyncJdbcOperationExecutor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuery;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+
+/**
+ * An {@link AsyncJdbcOperationExecutor} which adapts plain, blocking JDBC, by
+ * executing the statements of the session using threads of a given {@link Executor}.
+ * <p>
+ * The statement is prepared by the {@link JdbcCoordinator} of the session on the
+ * calling thread, and is then executed, and released, by the executor thread.
+ */
+public class AsyncJdbcOperationExecutorAdapter implements AsyncJdbcOperationExecutor {
+	private final Executor executor;
+
+	public AsyncJdbcOperationExecutorAdapter(Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletionStage<Object[][]> executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			JdbcValuesMapping jdbcValuesMapping,
+			ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final String sql = jdbcSelect.getSqlString();
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		return CompletableFuture.supplyAsync(
+				() -> {
+					final LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+					try {
+						bindParameters( statement, jdbcSelect, jdbcParameterBindings, executionContext );
+						final ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract( statement, sql );
+						try {
+							return extractRows( resultSet, jdbcValuesMapping, session );
+						}
+						finally {
+							logicalConnection.getResourceRegistry().release( resultSet, statement );
+						}
+					}
+					catch (SQLException e) {
+						throw session.getJdbcServices().getSqlExceptionHelper().convert(
+								e,
+								"JDBC exception executing SQL [" + sql + "]",
+								sql
+						);
+					}
+					finally {
+						logicalConnection.getResourceRegistry().release( statement );
+						executionContext.afterStatement( logicalConnection );
+					}
+				},
+				executor
+		);
+	}
+
+	@Override
+	public CompletionStage<Integer> executeMutation(
+			JdbcOperationQueryMutation jdbcMutation,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final String sql = jdbcMutation.getSqlString();
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		return CompletableFuture.supplyAsync(
+				() -> {
+					final LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+					try {
+						bindParameters( statement, jdbcMutation, jdbcParameterBindings, executionContext );
+						return jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+					}
+					catch (SQLException e) {
+						throw session.getJdbcServices().getSqlExceptionHelper().convert(
+								e,
+								"JDBC exception executing SQL [" + sql + "]",
+								sql
+						);
+					}
+					finally {
+						logicalConnection.getResourceRegistry().release( statement );
+						executionContext.afterStatement( logicalConnection );
+					}
+				},
+				executor
+		);
+	}
+
+	private static void bindParameters(
+			PreparedStatement statement,
+			JdbcOperationQuery jdbcOperation,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions != null && queryOptions.getTimeout() != null ) {
+			statement.setQueryTimeout( queryOptions.getTimeout() );
+		}
+		int position = 1;
+		for ( JdbcParameterBinder parameterBinder : jdbcOperation.getParameterBinders() ) {
+			parameterBinder.bindParameterValue( statement, position++, jdbcParameterBindings, executionContext );
+		}
+	}
+
+	private static Object[][] extractRows(
+			ResultSet resultSet,
+			JdbcValuesMapping jdbcValuesMapping,
+			SharedSessionContractImplementor session) throws SQLException {
+		final List<SqlSelection> sqlSelections = jdbcValuesMapping.getSqlSelections();
+		final List<Object[]> rows = new ArrayList<>();
+		while ( resultSet.next() ) {
+			final Object[] row = new Object[jdbcValuesMapping.getRowSize()];
+			for ( int i = 0; i < sqlSelections.size(); i++ ) {
+				final SqlSelection sqlSelection = sqlSelections.get( i );
+				row[sqlSelection.getValuesArrayPosition()] = sqlSelection.getJdbcValueExtractor().extract(
+						resultSet,
+						sqlSelection.getJdbcResultSetIndex(),
+						session
+				);
+			}
+			rows.add( row );
+		}
+		return rows.toArray( new Object[0][] );
+	}
+}
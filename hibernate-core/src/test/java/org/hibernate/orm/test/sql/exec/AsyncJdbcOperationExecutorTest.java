@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.query.spi.AbstractSelectionQuery;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.sql.exec.internal.AsyncJdbcExecutionHelper;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.spi.AsyncJdbcOperationExecutor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutationNative;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Execution of SQL via the {@link AsyncJdbcOperationExecutorAdapter}
+ */
+@DomainModel( annotatedClasses = { AsyncJdbcOperationExecutorTest.Author.class, AsyncJdbcOperationExecutorTest.Book.class } )
+@SessionFactory
+public class AsyncJdbcOperationExecutorTest {
+	private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+	private final AsyncJdbcOperationExecutor asyncExecutor = new AsyncJdbcOperationExecutorAdapter( executorService );
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author gavin = new Author( 1, "Gavin" );
+			final Author steve = new Author( 2, "Steve" );
+			session.persist( gavin );
+			session.persist( steve );
+			session.persist( new Book( 1, "Hibernate in Action", gavin ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", gavin ) );
+			session.persist( new Book( 3, "Hibernate Search", steve ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@AfterAll
+	public void shutdownExecutor() {
+		executorService.shutdown();
+	}
+
+	@Test
+	public void testSelect(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final AbstractSelectionQuery<Book> query = (AbstractSelectionQuery<Book>) session.createSelectionQuery(
+					"from Book b join fetch b.author where b.title like :title order by b.id",
+					Book.class
+			).setParameter( "title", "%Hibernate%" );
+
+			final List<Book> books = listAsync( query );
+			assertThat( books ).extracting( Book::getTitle )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate", "Hibernate Search" );
+
+			// the results are assembled into the persistence context of the session
+			assertThat( books.get( 0 ).getAuthor() ).isSameAs( books.get( 1 ).getAuthor() );
+			assertThat( session.get( Author.class, 1 ) ).isSameAs( books.get( 0 ).getAuthor() );
+			assertThat( session.contains( books.get( 2 ) ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testReadOnlySelect(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final AbstractSelectionQuery<Book> query = (AbstractSelectionQuery<Book>) session.createSelectionQuery(
+					"from Book b order by b.id",
+					Book.class
+			).setReadOnly( true );
+
+			final List<Book> books = listAsync( query );
+			assertThat( books ).hasSize( 3 );
+			for ( Book book : books ) {
+				assertThat( session.isReadOnly( book ) ).isTrue();
+			}
+			// the default of the session is restored
+			assertThat( session.isDefaultReadOnly() ).isFalse();
+			assertThat( session.isReadOnly( session.get( Author.class, 1 ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testMutation(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final JdbcOperationQueryMutationNative jdbcMutation = new JdbcOperationQueryMutationNative(
+					"delete from t_async_book where id > 1",
+					Collections.emptyList(),
+					Collections.singleton( "t_async_book" )
+			);
+			final Integer rows = asyncExecutor.executeMutation(
+					jdbcMutation,
+					JdbcParameterBindings.NO_BINDINGS,
+					new BaseExecutionContext( session )
+			).toCompletableFuture().join();
+			assertThat( rows ).isEqualTo( 2 );
+		} );
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 1L ) );
+	}
+
+	private <T> List<T> listAsync(AbstractSelectionQuery<T> query) {
+		final List<T> results = query.prepareList( new BlockingSelectExecutor() );
+		query.completeList( true );
+		return results;
+	}
+
+	/**
+	 * Executes selects via the {@link AsyncJdbcOperationExecutor}, and waits for the results
+	 */
+	private class BlockingSelectExecutor implements JdbcSelectExecutor {
+		@Override
+		public <R> List<R> list(
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer,
+				Class<R> requestedJavaType,
+				ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+			return AsyncJdbcExecutionHelper.list(
+					asyncExecutor,
+					jdbcSelect,
+					jdbcParameterBindings,
+					executionContext,
+					rowTransformer,
+					requestedJavaType,
+					uniqueSemantic
+			).toCompletableFuture().join();
+		}
+
+		@Override
+		public <R> ScrollableResultsImplementor<R> scroll(
+				JdbcOperationQuerySelect jdbcSelect,
+				ScrollMode scrollMode,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public <R> Stream<R> stream(
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	@Entity( name = "Author" )
+	@Table( name = "t_async_author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		private Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	@Table( name = "t_async_book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		private Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
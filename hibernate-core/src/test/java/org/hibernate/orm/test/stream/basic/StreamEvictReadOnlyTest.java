@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streamed read-only entities are evicted once the consumer advances
+ */
+@DomainModel(
+		annotatedClasses = StreamEvictReadOnlyTest.MyEntity.class
+)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.QUERY_STREAM_FETCH_SIZE, value = "50"),
+		@Setting(name = AvailableSettings.QUERY_STREAM_EVICT_READ_ONLY, value = "true")
+})
+public class StreamEvictReadOnlyTest {
+
+	private static final int ENTITIES = 10;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= ENTITIES; i++ ) {
+						session.persist( new MyEntity( i, "entity " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from MyEntity" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testReadOnlyEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Integer> managedCounts = new ArrayList<>();
+					final SelectionQuery<MyEntity> query = session.createSelectionQuery( "from MyEntity order by id", MyEntity.class )
+							.setReadOnly( true );
+					try ( Stream<MyEntity> stream = query.getResultStream() ) {
+						stream.forEach( entity -> {
+							assertThat( session.contains( entity ) ).isTrue();
+							managedCounts.add( session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+						} );
+					}
+					assertThat( managedCounts ).hasSize( ENTITIES ).containsOnly( 1 );
+					// the stream fetch size applies to the streamed execution only
+					assertThat( query.getFetchSize() ).isNull();
+				}
+		);
+	}
+
+	@Test
+	public void testPreviouslyManagedEntitiesAreRetained(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.setDefaultReadOnly( true );
+					final MyEntity held = session.find( MyEntity.class, 3 );
+					assertThat( session.isReadOnly( held ) ).isTrue();
+
+					try ( Stream<MyEntity> stream = session.createSelectionQuery( "from MyEntity order by id", MyEntity.class )
+							.getResultStream() ) {
+						assertThat( stream.filter( entity -> entity == held ).count() ).isEqualTo( 1 );
+					}
+					assertThat( session.contains( held ) ).isTrue();
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+				}
+		);
+	}
+
+	@Test
+	public void testModifiableEntitiesAreRetained(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( Stream<MyEntity> stream = session.createSelectionQuery( "from MyEntity", MyEntity.class )
+							.setFetchSize( 5 )
+							.getResultStream() ) {
+						assertThat( stream.count() ).isEqualTo( ENTITIES );
+					}
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isEqualTo( ENTITIES );
+				}
+		);
+	}
+
+	@Entity(name = "MyEntity")
+	@Table(name = "MyEntity")
+	public static class MyEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public MyEntity() {
+		}
+
+		public MyEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.type;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.type.descriptor.java.BigDecimalJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.java.UUIDJavaType;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DecimalJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.NumericJdbcType;
+import org.hibernate.type.descriptor.jdbc.UUIDJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+import org.hibernate.type.descriptor.jdbc.internal.JdbcValueFastPaths;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Binding and extraction of values via the {@link JdbcValueFastPaths}
+ */
+@DomainModel( annotatedClasses = JdbcValueFastPathsTest.Values.class )
+@SessionFactory
+public class JdbcValueFastPathsTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from FastPathValues" ).executeUpdate() );
+	}
+
+	@Test
+	public void testResolution() {
+		assertFastPath( BigIntJdbcType.INSTANCE, LongJavaType.INSTANCE, true );
+		assertFastPath( VarcharJdbcType.INSTANCE, StringJavaType.INSTANCE, true );
+		assertFastPath( NumericJdbcType.INSTANCE, BigDecimalJavaType.INSTANCE, true );
+		assertFastPath( DecimalJdbcType.INSTANCE, BigDecimalJavaType.INSTANCE, true );
+		assertFastPath( UUIDJdbcType.INSTANCE, UUIDJavaType.INSTANCE, true );
+		// values which need a conversion take the generic path
+		assertFastPath( VarcharJdbcType.INSTANCE, UUIDJavaType.INSTANCE, false );
+		assertFastPath( BigIntJdbcType.INSTANCE, BigDecimalJavaType.INSTANCE, false );
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final UUID uuid = UUID.randomUUID();
+		final Timestamp timestamp = Timestamp.valueOf( "2023-06-15 10:30:45" );
+		scope.inTransaction( (session) -> {
+			final Values values = new Values();
+			values.id = 1L;
+			values.quantity = 42;
+			values.name = "fast";
+			values.created = timestamp;
+			values.active = true;
+			values.amount = new BigDecimal( "123.45" );
+			values.uuid = uuid;
+			session.persist( values );
+
+			final Values nulls = new Values();
+			nulls.id = 2L;
+			session.persist( nulls );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final Values values = session.get( Values.class, 1L );
+			assertThat( values.quantity ).isEqualTo( 42 );
+			assertThat( values.name ).isEqualTo( "fast" );
+			assertThat( values.created.getTime() ).isEqualTo( timestamp.getTime() );
+			assertThat( values.active ).isTrue();
+			assertThat( values.amount ).isEqualByComparingTo( "123.45" );
+			assertThat( values.uuid ).isEqualTo( uuid );
+
+			final Values nulls = session.get( Values.class, 2L );
+			assertThat( nulls.quantity ).isNull();
+			assertThat( nulls.name ).isNull();
+			assertThat( nulls.created ).isNull();
+			assertThat( nulls.active ).isNull();
+			assertThat( nulls.amount ).isNull();
+			assertThat( nulls.uuid ).isNull();
+
+			assertThat(
+					session.createSelectionQuery( "select id from FastPathValues where uuid = :uuid and name = :name", Long.class )
+							.setParameter( "uuid", uuid )
+							.setParameter( "name", "fast" )
+							.getSingleResult()
+			).isEqualTo( 1L );
+		} );
+	}
+
+	private static void assertFastPath(JdbcType jdbcType, JavaType<?> javaType, boolean expected) {
+		assertThat( jdbcType.getBinder( javaType ).getClass().getEnclosingClass() == JdbcValueFastPaths.class )
+				.isEqualTo( expected );
+		assertThat( jdbcType.getExtractor( javaType ).getClass().getEnclosingClass() == JdbcValueFastPaths.class )
+				.isEqualTo( expected );
+	}
+
+	@Entity( name = "FastPathValues" )
+	@Table( name = "t_fast_path_values" )
+	public static class Values {
+		@Id
+		private Long id;
+		private Integer quantity;
+		private String name;
+		@Temporal( TemporalType.TIMESTAMP )
+		private Date created;
+		private Boolean active;
+		private BigDecimal amount;
+		private UUID uuid;
+	}
+}
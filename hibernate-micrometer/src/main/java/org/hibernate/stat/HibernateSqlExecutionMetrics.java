@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExecutionEvent;
+import org.hibernate.engine.jdbc.spi.SqlExecutionListener;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MeterBinder} implementation that provides metrics of the SQL statements executed
+ * by Hibernate, as recorded by the {@link org.hibernate.engine.jdbc.spi.SqlExecutionTracer}.
+ * The timings of the statements are tagged with the HQL query or role they originate from.
+ * <p>
+ * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
+ * application when considering using this {@link MeterBinder}.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateSqlExecutionMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	/**
+	 * Create {@code HibernateSqlExecutionMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		new HibernateSqlExecutionMetrics( sessionFactory, sessionFactoryName, Tags.of( tags ) ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateSqlExecutionMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateSqlExecutionMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			( (SessionFactoryImplementor) sessionFactory ).getJdbcServices()
+					.getSqlExecutionTracer()
+					.addListener( new MetricsSqlExecutionListener( meterRegistry ) );
+		}
+	}
+
+	class MetricsSqlExecutionListener implements SqlExecutionListener {
+
+		private final MeterRegistry meterRegistry;
+
+		MetricsSqlExecutionListener(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+		}
+
+		@Override
+		public void sqlExecuted(SqlExecutionEvent event) {
+			final String source = event.getSource() == null ? "" : event.getSource();
+
+			recordPhase( "bind", source, event.getBindNanos() );
+			recordPhase( "execute", source, event.getExecuteNanos() );
+			recordPhase( "fetch", source, event.getFetchNanos() );
+
+			if ( event.getRowCount() >= 0 ) {
+				DistributionSummary.builder( "hibernate.sql.execution.rows" )
+						.tags( tags )
+						.tags( "source", source )
+						.description( "Number of rows read or affected by a SQL statement" )
+						.register( meterRegistry )
+						.record( event.getRowCount() );
+			}
+		}
+
+		private void recordPhase(String phase, String source, long nanos) {
+			if ( nanos > 0 ) {
+				Timer.builder( "hibernate.sql.execution" )
+						.tags( tags )
+						.tags( "source", source, "phase", phase )
+						.description( "SQL statement executions" )
+						.register( meterRegistry )
+						.record( nanos, TimeUnit.NANOSECONDS );
+			}
+		}
+	}
+}
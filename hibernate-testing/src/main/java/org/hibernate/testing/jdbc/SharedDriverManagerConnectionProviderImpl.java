@@ -82,6 +82,8 @@ public class SharedDriverManagerConnectionProviderImpl extends DriverManagerConn
 		private final int minSize;
 		private final int maxSize;
 		private final int initialSize;
+		private final long acquisitionTimeout;
+		private final long leakDetectionThreshold;
 		private final String driverClassName;
 		private final String url;
 		private final Properties connectionProps;
@@ -92,6 +94,8 @@ public class SharedDriverManagerConnectionProviderImpl extends DriverManagerConn
 			this.minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 0 );
 			this.maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 			this.initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+			this.acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 );
+			this.leakDetectionThreshold = ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
 			this.driverClassName = (String) configurationValues.get( AvailableSettings.DRIVER );
 			this.url = (String) configurationValues.get( AvailableSettings.URL );
 			this.connectionProps = ConnectionProviderInitiator.getConnectionProperties( configurationValues );
@@ -101,6 +105,8 @@ public class SharedDriverManagerConnectionProviderImpl extends DriverManagerConn
 		boolean isCompatible(Config config) {
 			return config != null && autoCommit == config.autoCommit && minSize == config.minSize
 					&& maxSize == config.maxSize && initialSize == config.initialSize
+					&& acquisitionTimeout == config.acquisitionTimeout
+					&& leakDetectionThreshold == config.leakDetectionThreshold
 					&& driverClassName.equals( config.driverClassName )
 					&& url.equals( config.url )
 					&& connectionProps.equals( config.connectionProps )
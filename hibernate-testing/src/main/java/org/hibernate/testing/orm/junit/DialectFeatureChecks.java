@@ -472,6 +472,18 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsStandardArrays implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsStandardArrays();
+		}
+	}
+
+	public static class SupportsMultiStatementSelects implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsMultiStatementSelects();
+		}
+	}
+
 	public static class SupportsTruncateTable implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect instanceof MySQLDialect